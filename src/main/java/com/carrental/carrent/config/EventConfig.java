@@ -0,0 +1,55 @@
+package com.carrental.carrent.config;
+
+import com.carrental.carrent.config.logging.MdcTaskDecorator;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for asynchronous event delivery. Domain event listeners run after
+ * the publishing transaction commits; their queue is bounded and a full queue
+ * runs the listener on the publishing thread, so a slow subscriber throttles
+ * writers instead of piling up events in memory.
+ */
+@Configuration
+public class EventConfig {
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+    public static final String FLEET_STREAM_EXECUTOR = "fleetStreamExecutor";
+
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor(
+            @Value("${events.executor.core-size:2}") int coreSize,
+            @Value("${events.executor.max-size:4}") int maxSize,
+            @Value("${events.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("events-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Drains fleet status subscriber queues. Each subscriber has at most one
+     * pending drain task, so the queue is sized to the subscriber limit and a
+     * rejected task disconnects that subscriber.
+     */
+    @Bean(name = FLEET_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor fleetStreamExecutor(
+            @Value("${fleet.stream.threads:4}") int threads,
+            @Value("${fleet.stream.max-subscribers:5000}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("fleet-stream-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
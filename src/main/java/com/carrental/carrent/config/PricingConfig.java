@@ -0,0 +1,24 @@
+package com.carrental.carrent.config;
+
+import com.carrental.carrent.service.pricing.PricingRules;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PricingConfig {
+    @Bean
+    public PricingRules pricingRules(
+            @Value("${pricing.weekend-rate-bp:10000}") int weekendRate,
+            @Value("${pricing.fine-rate-bp:15000}") int fineRate,
+            @Value("${pricing.long-rental.min-days:0}") int longRentalMinDays,
+            @Value("${pricing.long-rental.discount-bp:0}") int longRentalDiscount) {
+        PricingRules.Builder builder = PricingRules.builder()
+                .weekendRate(weekendRate)
+                .fineRate(fineRate);
+        if (longRentalMinDays > 0 && longRentalDiscount > 0) {
+            builder.discount(longRentalMinDays, longRentalDiscount);
+        }
+        return builder.build();
+    }
+}
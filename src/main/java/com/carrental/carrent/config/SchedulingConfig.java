@@ -0,0 +1,56 @@
+package com.carrental.carrent.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Schedulers for periodic work, kept apart so that long runs of one kind
+ * cannot delay another. The primary scheduler ({@code spring.task.scheduling.*})
+ * runs local jobs, pricing reloads and stream keep-alives; clustered jobs get
+ * their own pool; lease heartbeats get a thread of their own, because a
+ * missed heartbeat lets another node start the same job. On virtual threads
+ * the first two run unpooled, the heartbeat thread stays dedicated.
+ */
+@Configuration
+public class SchedulingConfig {
+    public static final String TASK_SCHEDULER = "taskScheduler";
+    public static final String CLUSTERED_JOB_SCHEDULER = "clusteredJobScheduler";
+    public static final String LEASE_HEARTBEAT_SCHEDULER = "leaseHeartbeatScheduler";
+
+    @Primary
+    @Bean(name = TASK_SCHEDULER)
+    public TaskScheduler taskScheduler(Environment environment,
+                                       ThreadPoolTaskSchedulerBuilder poolBuilder,
+                                       SimpleAsyncTaskSchedulerBuilder virtualBuilder) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? virtualBuilder.build()
+                : poolBuilder.build();
+    }
+
+    @Bean(name = CLUSTERED_JOB_SCHEDULER)
+    public TaskScheduler clusteredJobScheduler(
+            Environment environment,
+            ThreadPoolTaskSchedulerBuilder poolBuilder,
+            SimpleAsyncTaskSchedulerBuilder virtualBuilder,
+            @Value("${jobs.clustered.pool-size:2}") int poolSize) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? virtualBuilder.threadNamePrefix("clustered-jobs-").build()
+                : poolBuilder.poolSize(poolSize).threadNamePrefix("clustered-jobs-").build();
+    }
+
+    @Bean(name = LEASE_HEARTBEAT_SCHEDULER)
+    public ThreadPoolTaskScheduler leaseHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("lease-heartbeat-");
+        return scheduler;
+    }
+}
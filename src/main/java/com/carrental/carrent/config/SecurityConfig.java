@@ -2,10 +2,19 @@ package com.carrental.carrent.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.carrental.carrent.config.logging.MdcTaskDecorator;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.security.ApiAdmissionFilter;
+import com.carrental.carrent.security.BCryptStrengthCalibrator;
+import com.carrental.carrent.security.BoundedPasswordEncoder;
 import com.carrental.carrent.security.JwtAuthenticationFilter;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,17 +26,57 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ApiAdmissionFilter apiAdmissionFilter;
 
+    /**
+     * BCrypt at a fixed {@code security.password.bcrypt.strength}, or at the
+     * cost calibrated at startup to take about
+     * {@code security.password.bcrypt.target-ms} per hash. Stored hashes with
+     * a lower cost are rehashed on the next successful login. Pin the strength
+     * when several instances share the users table, so that they agree.
+     */
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(
+            @Qualifier(PASSWORD_HASHING_EXECUTOR) ThreadPoolTaskExecutor passwordHashingExecutor,
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.target-ms:100}") long targetMs,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${security.password.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        int cost = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(Duration.ofMillis(targetMs),
+                        minStrength, maxStrength);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(cost),
+                passwordHashingExecutor, retryAfterSeconds);
+    }
+
+    /**
+     * Runs password hashing off the request threads, one hash per core by
+     * default. A full queue rejects the login or registration with 429.
+     */
+    @Bean(name = PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
     }
 
     @Bean
@@ -40,8 +89,11 @@ public class SecurityConfig {
                                 "/auth/**",
                                 "/error",
                                 "/swagger-ui/**",
-                                "/v3/api-docs/**"
+                                "/v3/api-docs/**",
+                                "/actuator/health/**"
                         ).permitAll()
+                        .requestMatchers("/actuator/prometheus")
+                        .hasAuthority(Role.MANAGER.getAuthority())
                         .anyRequest().authenticated()
                 )
                 .httpBasic(withDefaults())
@@ -49,6 +101,7 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(apiAdmissionFilter, BasicAuthenticationFilter.class)
                 .userDetailsService(userDetailsService)
                 .build();
     }
@@ -6,15 +6,24 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.BotSession;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
 @Configuration
 @ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
 public class TelegramBotConfig {
     @Bean
-    public TelegramBotsApi telegramBotsApi(CarRentalTelegramBot bot) throws TelegramApiException {
-        TelegramBotsApi api = new TelegramBotsApi(DefaultBotSession.class);
-        api.registerBot(bot);
-        return api;
+    public TelegramBotsApi telegramBotsApi() throws TelegramApiException {
+        return new TelegramBotsApi(DefaultBotSession.class);
+    }
+
+    /**
+     * The polling session runs on its own non-daemon threads; stopping it with
+     * the context lets the JVM exit once the application is closed.
+     */
+    @Bean(destroyMethod = "stop")
+    public BotSession telegramBotSession(TelegramBotsApi api, CarRentalTelegramBot bot)
+            throws TelegramApiException {
+        return api.registerBot(bot);
     }
 }
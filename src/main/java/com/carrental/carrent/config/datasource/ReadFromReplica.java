@@ -0,0 +1,19 @@
+package com.carrental.carrent.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose queries may run on the replica.
+ * Only read-only transactions started inside such a method are routed there;
+ * every other read, including Spring Data's default read-only repository
+ * methods called from jobs and startup code, stays on the primary.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
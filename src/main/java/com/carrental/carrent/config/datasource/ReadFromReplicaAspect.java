@@ -0,0 +1,22 @@
+package com.carrental.carrent.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Binds the replica marker for the duration of each {@link ReadFromReplica}
+ * method, restoring the outer value afterwards so nested calls unwind cleanly.
+ */
+@Aspect
+public class ReadFromReplicaAspect {
+    @Around("@annotation(com.carrental.carrent.config.datasource.ReadFromReplica)")
+    public Object bindReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outer = ReplicaRoutingDataSource.bindReplicaRead(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.bindReplicaRead(outer);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.carrental.carrent.config.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers when each user last committed a write, so their reads stay on the
+ * primary until the replica has had time to catch up. Anonymous and system
+ * work (schedulers, event listeners) is not tracked and may read stale data.
+ */
+public class ReadYourWritesGuard {
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    public ReadYourWritesGuard(long windowMs) {
+        this(windowMs, System::nanoTime);
+    }
+
+    ReadYourWritesGuard(long windowMs, LongSupplier clock) {
+        this.windowNanos = windowMs * 1_000_000L;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a write for the current user once the surrounding transaction
+     * commits; rolled back transactions leave the replica usable.
+     */
+    public void recordWriteAfterCommit() {
+        String user = currentUser();
+        if (user == null || windowNanos <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(user);
+                    }
+                });
+    }
+
+    public boolean mustReadPrimary() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByUser.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (clock.getAsLong() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWriteByUser.remove(user, lastWrite);
+        return false;
+    }
+
+    void recordWrite(String user) {
+        long now = clock.getAsLong();
+        lastWriteByUser.put(user, now);
+        if (lastWriteByUser.size() > SWEEP_THRESHOLD) {
+            lastWriteByUser.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
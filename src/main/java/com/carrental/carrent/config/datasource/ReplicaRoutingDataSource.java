@@ -0,0 +1,60 @@
+package com.carrental.carrent.config.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions started inside a {@link ReadFromReplica}
+ * method to the replica pool and everything else to the primary. Read-only
+ * alone is not enough: Spring Data marks its own repository methods
+ * read-only, and jobs and startup code calling them directly must see the
+ * primary's current state. The lookup key is taken when a connection is
+ * first requested, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy};
+ * otherwise the transaction manager fetches the connection before the
+ * read-only flag is bound to the thread.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> REPLICA_READ =
+            ThreadLocal.withInitial(() -> false);
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!REPLICA_READ.get()) {
+                return PRIMARY;
+            }
+            return readYourWritesGuard.mustReadPrimary() ? PRIMARY : REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            readYourWritesGuard.recordWriteAfterCommit();
+        }
+        return PRIMARY;
+    }
+
+    /** Sets the replica marker for this thread and returns its previous value. */
+    static boolean bindReplicaRead(boolean replicaRead) {
+        boolean previous = REPLICA_READ.get();
+        if (replicaRead) {
+            REPLICA_READ.set(true);
+        } else {
+            REPLICA_READ.remove();
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,48 @@
+package com.carrental.carrent.config.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets one occurrence of a high-volume message through per interval and
+ * counts the rest, so a burst of identical failures costs one log line:
+ * <pre>{@code
+ * long suppressed = sampler.sample();
+ * if (suppressed >= 0) {
+ *     log.warn("Telegram send failed ({} similar suppressed)", suppressed);
+ * }
+ * }</pre>
+ */
+public final class LogSampler {
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final AtomicLong nextAllowedNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(Duration interval) {
+        this(interval, System::nanoTime);
+    }
+
+    LogSampler(Duration interval, LongSupplier clock) {
+        this.intervalNanos = interval.toNanos();
+        this.clock = clock;
+        this.nextAllowedNanos = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Returns how many occurrences were suppressed since the last one that
+     * was let through, or {@code -1} if this one should not be logged.
+     */
+    public long sample() {
+        long now = clock.getAsLong();
+        long nextAllowed = nextAllowedNanos.get();
+        if (now - nextAllowed < 0
+                || !nextAllowedNanos.compareAndSet(nextAllowed, now + intervalNanos)) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,55 @@
+package com.carrental.carrent.controller;
+
+import com.carrental.carrent.dto.analytics.FleetUtilizationDto;
+import com.carrental.carrent.service.FleetAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Fleet utilization and revenue analytics")
+public class AnalyticsController {
+    private final FleetAnalyticsService fleetAnalyticsService;
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @GetMapping("/fleet")
+    @Operation(summary = "Get fleet utilization", description =
+            "Returns rented days over available days, revenue and average rental length "
+                    + "per car or per car type. Accessible by MANAGER role.")
+    public List<FleetUtilizationDto> getFleetUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "group_by", defaultValue = "car") String groupBy) {
+        return switch (groupBy) {
+            case "car" -> fleetAnalyticsService.getUtilizationByCar(from, to);
+            case "car_type" -> fleetAnalyticsService.getUtilizationByCarType(from, to);
+            default -> throw new IllegalArgumentException(
+                    "group_by must be one of: car, car_type");
+        };
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @PostMapping("/fleet/reconcile")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Rebuild fleet statistics", description =
+            "Recomputes the daily fleet aggregates for a date range from rentals and "
+                    + "payments. Accessible by MANAGER role.")
+    public void reconcile(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        fleetAnalyticsService.reconcile(from, to);
+    }
+}
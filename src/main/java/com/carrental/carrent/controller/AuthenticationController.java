@@ -9,6 +9,7 @@ import com.carrental.carrent.security.AuthenticationService;
 import com.carrental.carrent.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -37,8 +38,11 @@ public class AuthenticationController {
 
     @PostMapping("/login")
     @Operation(summary = "Login a user", description =
-            "Login a user account with the provided login and password")
-    public UserLoginResponseDto login(@RequestBody @Valid UserLoginRequestDto requestDto) {
-        return authenticationService.authenticate(requestDto);
+            "Login a user account with the provided login and password. Attempts are "
+                    + "limited per client address and per email; over the limit the "
+                    + "response is 429 with a Retry-After header")
+    public UserLoginResponseDto login(@RequestBody @Valid UserLoginRequestDto requestDto,
+                                      HttpServletRequest request) {
+        return authenticationService.authenticate(requestDto, request.getRemoteAddr());
     }
 }
@@ -1,14 +1,24 @@
 package com.carrental.carrent.controller;
 
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarImportResultDto;
+import com.carrental.carrent.dto.car.CarQuoteDto;
+import com.carrental.carrent.service.CarBulkService;
 import com.carrental.carrent.service.CarService;
-import com.carrental.carrent.service.telegram.TelegramNotificationService;
+import com.carrental.carrent.service.fleet.FleetStatusHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,16 +27,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/cars")
 @RequiredArgsConstructor
 @Tag(name = "Car", description = "Car management APIs")
 public class CarController {
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final String TEXT_CSV = "text/csv";
+
     private final CarService carService;
-    private final TelegramNotificationService telegramNotificationService;
+    private final CarBulkService carBulkService;
+    private final FleetStatusHub fleetStatusHub;
 
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     @PostMapping
@@ -34,9 +51,52 @@ public class CarController {
     @Operation(summary = "Create a new car", description =
             "Create a new car. Accessible by MANAGER role.")
     public CarDto createCar(@RequestBody @Valid CarDto carDto) {
-        CarDto savedCarDto = carService.save(carDto);
-        telegramNotificationService.sendNewCarNotification(savedCarDto);
-        return savedCarDto;
+        return carService.save(carDto);
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON)
+    @Operation(summary = "Bulk import cars from NDJSON", description =
+            "Imports one car per line, inserting valid records in batches and reporting "
+                    + "rejected lines. Accessible by MANAGER role.")
+    public CarImportResultDto importCarsNdjson(InputStream body) throws IOException {
+        return carBulkService.importNdjson(body);
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV)
+    @Operation(summary = "Bulk import cars from CSV", description =
+            "Imports cars from CSV with a brand,model,carType,inventory,dailyFee header, "
+                    + "inserting valid records in batches and reporting rejected lines. "
+                    + "Fields containing commas must be enclosed in double quotes. "
+                    + "Accessible by MANAGER role.")
+    public CarImportResultDto importCarsCsv(InputStream body) throws IOException {
+        return carBulkService.importCsv(body);
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @GetMapping("/export")
+    @Operation(summary = "Export all cars", description =
+            "Streams all cars as NDJSON in the bulk import format. "
+                    + "Accessible by MANAGER role.")
+    public ResponseEntity<StreamingResponseBody> exportCars() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(carBulkService::exportNdjson);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream inventory changes", description =
+            "Pushes an inventory event whenever a rental takes or returns a car. "
+                    + "Clients load the catalog once, then keep the frame with the highest "
+                    + "version per car and drop older ones; a client that falls behind is "
+                    + "disconnected and should reload before reconnecting.")
+    public ResponseEntity<SseEmitter> streamInventory() {
+        return fleetStatusHub.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build());
     }
 
     @GetMapping
@@ -54,6 +114,18 @@ public class CarController {
         return carService.findById(id);
     }
 
+    @PreAuthorize("hasAnyRole('MANAGER', 'CUSTOMER')")
+    @GetMapping("/{id}/quote")
+    @Operation(summary = "Quote a rental price", description =
+            "Returns the price of renting a car between two dates using the current "
+                    + "pricing rules. Accessible by CUSTOMER role.")
+    public CarQuoteDto getQuote(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return carService.quote(id, from, to);
+    }
+
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     @PutMapping("/{id}")
     @Operation(summary = "Update a car", description =
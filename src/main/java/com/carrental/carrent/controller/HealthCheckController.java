@@ -1,12 +0,0 @@
-package com.carrental.carrent.controller;
-
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-@RestController
-public class HealthCheckController {
-    @GetMapping("/health")
-    public String health() {
-        return "OK";
-    }
-}
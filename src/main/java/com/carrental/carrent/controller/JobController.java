@@ -0,0 +1,29 @@
+package com.carrental.carrent.controller;
+
+import com.carrental.carrent.dto.job.JobStatsDto;
+import com.carrental.carrent.service.scheduling.JobRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Jobs", description = "Scheduled job monitoring")
+public class JobController {
+    private final JobRunner jobRunner;
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @GetMapping
+    @Operation(summary = "Get scheduled job statistics", description =
+            "Returns runs, failures, skipped runs, duration and trigger lag of each "
+                    + "scheduled job on this instance. Accessible by MANAGER role.")
+    public List<JobStatsDto> getJobStats() {
+        return jobRunner.getStats();
+    }
+}
@@ -3,7 +3,6 @@ package com.carrental.carrent.controller;
 import com.carrental.carrent.dto.payment.PaymentDto;
 import com.carrental.carrent.dto.payment.PaymentRequestDto;
 import com.carrental.carrent.service.PaymentService;
-import com.carrental.carrent.service.telegram.TelegramNotificationService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +21,6 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PaymentController {
     private final PaymentService paymentService;
-    private final TelegramNotificationService telegramNotificationService;
 
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
@@ -43,7 +41,6 @@ public class PaymentController {
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     public ResponseEntity<String> handleSuccess(@RequestParam("session_id") String sessionId) {
         paymentService.markPaymentSuccessful(sessionId);
-        telegramNotificationService.sendSuccessfulPaymentNotification(sessionId);
         return ResponseEntity.ok("Payment successful");
     }
 
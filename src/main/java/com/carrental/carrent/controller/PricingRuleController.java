@@ -0,0 +1,55 @@
+package com.carrental.carrent.controller;
+
+import com.carrental.carrent.dto.pricing.PricingRuleDto;
+import com.carrental.carrent.service.PricingRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/pricing-rules")
+@RequiredArgsConstructor
+@Tag(name = "Pricing rules", description = "Dynamic pricing rule management APIs")
+public class PricingRuleController {
+    private final PricingRuleService pricingRuleService;
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @GetMapping
+    @Operation(summary = "Get all pricing rules", description =
+            "Returns all active pricing rules. Accessible by MANAGER role.")
+    public List<PricingRuleDto> getAllRules() {
+        return pricingRuleService.findAll();
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Create a pricing rule", description =
+            "Creates a pricing rule and refreshes the in-memory rule index. "
+                    + "Accessible by MANAGER role.")
+    public PricingRuleDto createRule(@RequestBody @Valid PricingRuleDto pricingRuleDto) {
+        return pricingRuleService.save(pricingRuleDto);
+    }
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete a pricing rule", description =
+            "Deletes a pricing rule and refreshes the in-memory rule index. "
+                    + "Accessible by MANAGER role.")
+    public void deleteRule(@PathVariable Long id) {
+        pricingRuleService.deleteById(id);
+    }
+}
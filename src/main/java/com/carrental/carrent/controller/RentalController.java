@@ -3,15 +3,18 @@ package com.carrental.carrent.controller;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
-import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.RentalService;
-import com.carrental.carrent.service.UserService;
-import com.carrental.carrent.service.telegram.TelegramNotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,26 +22,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/rentals")
 @RequiredArgsConstructor
 @Tag(name = "Rentals", description = "Managing users' car rentals")
 public class RentalController {
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     private final RentalService rentalService;
-    private final TelegramNotificationService telegramService;
-    private final UserService userService;
-    private final CarService carService;
 
     @PostMapping
     @Operation(summary = "Create a new rental",
             description = "Adds a new rental and decreases car inventory by 1")
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     public RentalDto createRental(@RequestBody @Valid RentalDto rentalDto) {
-        telegramService.sendNewRentalNotification(rentalDto,
-                userService.findById(rentalDto.getUserId()),
-                carService.findById(rentalDto.getCarId()));
         return rentalService.createRental(rentalDto);
     }
 
@@ -53,6 +52,46 @@ public class RentalController {
         return rentalService.getRentalsByUserAndStatus(userId, isActive);
     }
 
+    @GetMapping(value = "/history", params = "user_id")
+    @Operation(summary = "Get rental history page",
+            description = "Returns a page of a user's rentals, newest first by default")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public Page<RentalResponseDto> getRentalHistory(
+            @RequestParam("user_id") Long userId,
+            @RequestParam(value = "is_active", required = false) Boolean isActive,
+            @PageableDefault(size = 20, sort = "rentalDate", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        return rentalService.getRentalHistory(userId, isActive, pageable);
+    }
+
+    @GetMapping(value = "/history/stream", params = "user_id")
+    @Operation(summary = "Stream rental history as NDJSON",
+            description = "Streams all of a user's rentals, newest first, one JSON per line")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> streamRentalHistory(
+            @RequestParam("user_id") Long userId,
+            @RequestParam(value = "is_active", required = false) Boolean isActive
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(out -> rentalService.writeRentalHistoryNdjson(userId, isActive, out));
+    }
+
+    @GetMapping(value = "/history/stream", params = "user_id",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream rental history as server-sent events",
+            description = "Streams all of a user's rentals, newest first, one event each")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> streamRentalHistoryEvents(
+            @RequestParam("user_id") Long userId,
+            @RequestParam(value = "is_active", required = false) Boolean isActive
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(out -> rentalService.writeRentalHistoryEvents(userId, isActive, out));
+    }
+
     @GetMapping
     @Operation(summary = "Get current rental",
             description = "Returns the current rental for the authenticated user")
@@ -0,0 +1,47 @@
+package com.carrental.carrent.controller;
+
+import com.carrental.carrent.service.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Finance exports")
+public class ReportController {
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private final ReportService reportService;
+
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @GetMapping("/revenue")
+    @Operation(summary = "Export revenue", description =
+            "Streams paid payments as CSV by rental day, payment type and car type. "
+                    + "Accessible by MANAGER role.")
+    public ResponseEntity<StreamingResponseBody> exportRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        String fileName = "revenue-" + from + "-" + to + ".csv";
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(outputStream -> reportService.writeRevenueCsv(from, to, outputStream));
+    }
+}
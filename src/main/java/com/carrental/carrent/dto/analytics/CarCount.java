@@ -0,0 +1,4 @@
+package com.carrental.carrent.dto.analytics;
+
+public record CarCount(Long carId, Long count) {
+}
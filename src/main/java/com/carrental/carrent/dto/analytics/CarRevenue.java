@@ -0,0 +1,6 @@
+package com.carrental.carrent.dto.analytics;
+
+import java.math.BigDecimal;
+
+public record CarRevenue(Long carId, BigDecimal revenue) {
+}
@@ -0,0 +1,32 @@
+package com.carrental.carrent.dto.analytics;
+
+import com.carrental.carrent.model.CarType;
+import java.math.BigDecimal;
+
+public record FleetUtilizationDto(
+        Long carId,
+        CarType carType,
+        long rentedDays,
+        long availableDays,
+        double utilization,
+        BigDecimal revenue,
+        long completedRentals,
+        double averageRentalDays) {
+
+    public FleetUtilizationDto(Long carId, CarType carType, Long rentedDays, Long availableDays,
+                               BigDecimal revenue, Long completedRentals,
+                               Long completedRentalDays) {
+        this(carId, carType, rentedDays, availableDays,
+                availableDays == 0 ? 0 : (double) rentedDays / availableDays,
+                revenue,
+                completedRentals,
+                completedRentals == 0 ? 0 : (double) completedRentalDays / completedRentals);
+    }
+
+    public FleetUtilizationDto(CarType carType, Long rentedDays, Long availableDays,
+                               BigDecimal revenue, Long completedRentals,
+                               Long completedRentalDays) {
+        this(null, carType, rentedDays, availableDays, revenue, completedRentals,
+                completedRentalDays);
+    }
+}
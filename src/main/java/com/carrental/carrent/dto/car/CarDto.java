@@ -2,9 +2,13 @@ package com.carrental.carrent.dto.car;
 
 import com.carrental.carrent.model.CarType;
 import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class CarDto {
     private Long id;
     private String model;
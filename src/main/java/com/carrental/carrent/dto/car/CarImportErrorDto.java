@@ -0,0 +1,4 @@
+package com.carrental.carrent.dto.car;
+
+public record CarImportErrorDto(long line, String message) {
+}
@@ -0,0 +1,10 @@
+package com.carrental.carrent.dto.car;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} is capped, {@code rejected} is not.
+ */
+public record CarImportResultDto(long received, long imported, long rejected,
+                                 List<CarImportErrorDto> errors) {
+}
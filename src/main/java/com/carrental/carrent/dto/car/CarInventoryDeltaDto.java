@@ -0,0 +1,4 @@
+package com.carrental.carrent.dto.car;
+
+public record CarInventoryDeltaDto(Long carId, int inventory, int delta, long version) {
+}
@@ -0,0 +1,15 @@
+package com.carrental.carrent.dto.car;
+
+import com.carrental.carrent.model.CarType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CarQuoteDto(
+        Long carId,
+        CarType carType,
+        LocalDate from,
+        LocalDate to,
+        long days,
+        BigDecimal dailyFee,
+        BigDecimal totalPrice) {
+}
@@ -0,0 +1,15 @@
+package com.carrental.carrent.dto.job;
+
+import java.time.Instant;
+
+public record JobStatsDto(String name,
+                          boolean running,
+                          long runs,
+                          long failures,
+                          long skippedOverlap,
+                          long skippedLease,
+                          Instant lastStartedAt,
+                          long lastDurationMs,
+                          long maxDurationMs,
+                          long lastLagMs) {
+}
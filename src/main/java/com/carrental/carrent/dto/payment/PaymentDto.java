@@ -4,9 +4,13 @@ import com.carrental.carrent.model.PaymentType;
 import com.carrental.carrent.model.Status;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PaymentDto {
     @NotNull
     private Long id;
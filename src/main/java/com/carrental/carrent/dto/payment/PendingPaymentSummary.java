@@ -0,0 +1,9 @@
+package com.carrental.carrent.dto.payment;
+
+import com.carrental.carrent.model.PaymentType;
+import java.math.BigDecimal;
+
+public record PendingPaymentSummary(Long paymentId, BigDecimal amountToPay,
+                                    PaymentType paymentType, Long rentalId,
+                                    String firstName, String lastName) {
+}
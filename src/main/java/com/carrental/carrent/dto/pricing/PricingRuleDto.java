@@ -0,0 +1,43 @@
+package com.carrental.carrent.dto.pricing;
+
+import com.carrental.carrent.model.CarType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.Data;
+
+@Data
+public class PricingRuleDto {
+    private Long id;
+
+    private CarType carType;
+
+    @NotNull(message = "Valid from date cannot be null")
+    private LocalDate validFrom;
+
+    private LocalDate validTo;
+
+    @Min(0)
+    private int rateBp = 10_000;
+
+    @Min(0)
+    private int weekendRateBp = 10_000;
+
+    @Min(1)
+    private Integer longRentalMinDays;
+
+    @Min(0)
+    @Max(10_000)
+    private Integer longRentalDiscountBp;
+
+    @Min(0)
+    private Integer fineRateBp;
+
+    @Min(0)
+    @Max(10_000)
+    private Integer highUtilizationBp;
+
+    @Min(0)
+    private Integer highUtilizationRateBp;
+}
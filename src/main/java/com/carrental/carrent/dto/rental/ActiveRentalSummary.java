@@ -0,0 +1,8 @@
+package com.carrental.carrent.dto.rental;
+
+import java.time.LocalDate;
+
+public record ActiveRentalSummary(Long rentalId, LocalDate rentalDate, LocalDate returnDate,
+                                  String firstName, String lastName,
+                                  String brand, String model) {
+}
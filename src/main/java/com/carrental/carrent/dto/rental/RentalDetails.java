@@ -0,0 +1,8 @@
+package com.carrental.carrent.dto.rental;
+
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.Rental;
+import com.carrental.carrent.model.User;
+
+public record RentalDetails(Rental rental, User user, Car car) {
+}
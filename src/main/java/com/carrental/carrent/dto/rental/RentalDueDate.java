@@ -0,0 +1,6 @@
+package com.carrental.carrent.dto.rental;
+
+import java.time.LocalDate;
+
+public record RentalDueDate(Long rentalId, LocalDate returnDate) {
+}
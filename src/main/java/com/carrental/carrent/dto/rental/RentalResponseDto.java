@@ -1,9 +1,13 @@
 package com.carrental.carrent.dto.rental;
 
 import java.time.LocalDate;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class RentalResponseDto {
     private Long id;
     private LocalDate rentalDate;
@@ -0,0 +1,9 @@
+package com.carrental.carrent.event;
+
+/**
+ * Published when a rental takes a car out of, or puts it back into, inventory.
+ * {@code inventory} and {@code version} are the values written by the
+ * publishing transaction; versions of one car grow in commit order.
+ */
+public record CarInventoryChangedEvent(Long carId, int inventory, int delta, long version) {
+}
@@ -0,0 +1,9 @@
+package com.carrental.carrent.event;
+
+import com.carrental.carrent.dto.car.CarImportResultDto;
+
+/**
+ * Published once per bulk import that inserted at least one car.
+ */
+public record CarsImportedEvent(CarImportResultDto result) {
+}
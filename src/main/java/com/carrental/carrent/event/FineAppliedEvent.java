@@ -0,0 +1,6 @@
+package com.carrental.carrent.event;
+
+import java.math.BigDecimal;
+
+public record FineAppliedEvent(Long rentalId, BigDecimal amount, long overdueDays) {
+}
@@ -0,0 +1,4 @@
+package com.carrental.carrent.event;
+
+public record PaymentPaidEvent(Long paymentId, String sessionId) {
+}
@@ -0,0 +1,4 @@
+package com.carrental.carrent.event;
+
+public record RentalCreatedEvent(Long rentalId, Long userId, Long carId) {
+}
@@ -0,0 +1,6 @@
+package com.carrental.carrent.event;
+
+import java.time.LocalDate;
+
+public record RentalReturnedEvent(Long rentalId, Long carId, LocalDate actualReturnDate) {
+}
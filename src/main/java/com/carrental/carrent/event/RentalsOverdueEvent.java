@@ -0,0 +1,10 @@
+package com.carrental.carrent.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published once per day with every active rental whose return date has passed.
+ */
+public record RentalsOverdueEvent(List<Long> rentalIds, LocalDate date) {
+}
@@ -0,0 +1,8 @@
+package com.carrental.carrent.event;
+
+/**
+ * Published when a user's email, password or role changes. {@code previousEmail}
+ * equals {@code email} unless the email itself changed.
+ */
+public record UserChangedEvent(Long userId, String previousEmail, String email) {
+}
@@ -0,0 +1,17 @@
+package com.carrental.carrent.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request is shed because a bounded resource is saturated.
+ * Answered with 429 and a {@code Retry-After} header.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.carrental.carrent.health;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Health of an external API, judged from the outcome of real calls rather
+ * than by probing it: the indicator is DOWN once the last
+ * {@code failureThreshold} calls in a row have failed, and UP again after
+ * the next success. Probing on every health check would spend rate limits
+ * (and, for Stripe, money) on load balancer polls.
+ */
+public abstract class ExternalCallHealthIndicator implements HealthIndicator {
+    private final int failureThreshold;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Instant lastSuccessAt;
+    private volatile Instant lastFailureAt;
+    private volatile String lastError;
+
+    protected ExternalCallHealthIndicator(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        lastSuccessAt = Instant.now();
+    }
+
+    public void recordFailure(Exception e) {
+        consecutiveFailures.incrementAndGet();
+        lastFailureAt = Instant.now();
+        lastError = e.getClass().getSimpleName();
+    }
+
+    @Override
+    public Health health() {
+        int failures = consecutiveFailures.get();
+        Health.Builder builder = failures >= failureThreshold ? Health.down() : Health.up();
+        builder.withDetail("consecutiveFailures", failures);
+        if (lastSuccessAt != null) {
+            builder.withDetail("lastSuccessAt", lastSuccessAt);
+        }
+        if (lastFailureAt != null) {
+            builder.withDetail("lastFailureAt", lastFailureAt)
+                    .withDetail("lastError", lastError);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.carrental.carrent.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StripeHealthIndicator extends ExternalCallHealthIndicator {
+    public StripeHealthIndicator(
+            @Value("${health.external.failure-threshold:3}") int failureThreshold) {
+        super(failureThreshold);
+    }
+}
@@ -0,0 +1,14 @@
+package com.carrental.carrent.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
+public class TelegramHealthIndicator extends ExternalCallHealthIndicator {
+    public TelegramHealthIndicator(
+            @Value("${health.external.failure-threshold:3}") int failureThreshold) {
+        super(failureThreshold);
+    }
+}
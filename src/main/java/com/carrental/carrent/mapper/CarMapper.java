@@ -12,8 +12,10 @@ public interface CarMapper {
     CarDto toDto(Car car);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Car toEntity(CarDto carDto);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateModelFromDto(@MappingTarget Car car, CarDto carDto);
 }
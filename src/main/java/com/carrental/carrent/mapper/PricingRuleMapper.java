@@ -0,0 +1,16 @@
+package com.carrental.carrent.mapper;
+
+import com.carrental.carrent.config.MapperConfig;
+import com.carrental.carrent.dto.pricing.PricingRuleDto;
+import com.carrental.carrent.model.PricingRule;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfig.class)
+public interface PricingRuleMapper {
+    PricingRuleDto toDto(PricingRule pricingRule);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    PricingRule toEntity(PricingRuleDto pricingRuleDto);
+}
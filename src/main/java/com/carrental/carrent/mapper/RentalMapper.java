@@ -5,6 +5,7 @@ import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.model.Rental;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(config = MapperConfig.class)
 public interface RentalMapper {
@@ -12,5 +13,6 @@ public interface RentalMapper {
 
     RentalResponseDto toResponseDto(Rental rental);
 
+    @Mapping(target = "finedThrough", ignore = true)
     Rental toModel(RentalDto rentalDto);
 }
@@ -6,16 +6,18 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE cars SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE cars SET is_deleted = true WHERE id = ? AND version = ?")
 @SQLRestriction("is_deleted = false")
 @Table(name = "cars")
 public class Car {
@@ -34,5 +36,9 @@ public class Car {
     private BigDecimal dailyFee;
     @Column(nullable = false)
     private boolean isDeleted = false;
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 }
 
@@ -0,0 +1,45 @@
+package com.carrental.carrent.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "daily_fleet_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"stat_date", "car_id"}))
+public class DailyFleetStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private LocalDate statDate;
+    @Column(nullable = false)
+    private Long carId;
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CarType carType;
+    @Column(nullable = false)
+    private int rentedUnits;
+    @Column(nullable = false)
+    private int availableUnits;
+    @Column(nullable = false)
+    private int rentalsStarted;
+    @Column(nullable = false)
+    private int rentalsCompleted;
+    @Column(nullable = false)
+    private int completedRentalDays;
+    @Column(nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+}
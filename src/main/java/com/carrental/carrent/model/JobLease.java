@@ -0,0 +1,24 @@
+package com.carrental.carrent.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "job_leases")
+public class JobLease {
+    @Id
+    @Column(length = 100)
+    private String jobName;
+    @Column(nullable = false)
+    private String owner;
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+    private LocalDateTime heartbeatAt;
+}
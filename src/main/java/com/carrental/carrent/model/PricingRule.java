@@ -0,0 +1,43 @@
+package com.carrental.carrent.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Getter
+@Setter
+@SQLDelete(sql = "UPDATE pricing_rules SET is_deleted = true WHERE id = ?")
+@SQLRestriction("is_deleted = false")
+@Table(name = "pricing_rules")
+public class PricingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    private CarType carType;
+    @Column(nullable = false)
+    private LocalDate validFrom;
+    private LocalDate validTo;
+    @Column(nullable = false)
+    private int rateBp = 10_000;
+    @Column(nullable = false)
+    private int weekendRateBp = 10_000;
+    private Integer longRentalMinDays;
+    private Integer longRentalDiscountBp;
+    private Integer fineRateBp;
+    private Integer highUtilizationBp;
+    private Integer highUtilizationRateBp;
+    @Column(nullable = false)
+    private boolean isDeleted = false;
+}
@@ -23,6 +23,7 @@ public class Rental {
     @Column(nullable = false)
     private LocalDate returnDate;
     private LocalDate actualReturnDate;
+    private LocalDate finedThrough;
     @Column(nullable = false)
     private Long carId;
     @Column(nullable = false)
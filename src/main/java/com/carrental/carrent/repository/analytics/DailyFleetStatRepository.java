@@ -0,0 +1,72 @@
+package com.carrental.carrent.repository.analytics;
+
+import com.carrental.carrent.dto.analytics.FleetUtilizationDto;
+import com.carrental.carrent.model.DailyFleetStat;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyFleetStatRepository extends JpaRepository<DailyFleetStat, Long> {
+    boolean existsByStatDateAndCarId(LocalDate statDate, Long carId);
+
+    Optional<DailyFleetStat> findFirstByCarIdAndStatDateBeforeOrderByStatDateDesc(
+            Long carId, LocalDate statDate);
+
+    @Query("SELECT s FROM DailyFleetStat s WHERE s.statDate = ("
+            + "SELECT MAX(p.statDate) FROM DailyFleetStat p "
+            + "WHERE p.carId = s.carId AND p.statDate <= :date)")
+    List<DailyFleetStat> findLatestByCarOnOrBefore(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM DailyFleetStat s WHERE s.statDate = :date")
+    int deleteByStatDate(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE DailyFleetStat s SET s.rentedUnits = s.rentedUnits + :delta "
+            + "WHERE s.carId = :carId AND s.statDate BETWEEN :from AND :to")
+    int addRentedUnits(@Param("carId") Long carId,
+                       @Param("from") LocalDate from,
+                       @Param("to") LocalDate to,
+                       @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE DailyFleetStat s SET s.rentalsStarted = s.rentalsStarted + 1 "
+            + "WHERE s.carId = :carId AND s.statDate = :date")
+    int incrementRentalsStarted(@Param("carId") Long carId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE DailyFleetStat s SET s.rentalsCompleted = s.rentalsCompleted + 1, "
+            + "s.completedRentalDays = s.completedRentalDays + :days "
+            + "WHERE s.carId = :carId AND s.statDate = :date")
+    int addCompletedRental(@Param("carId") Long carId,
+                           @Param("date") LocalDate date,
+                           @Param("days") int days);
+
+    @Modifying
+    @Query("UPDATE DailyFleetStat s SET s.revenue = s.revenue + :amount "
+            + "WHERE s.carId = :carId AND s.statDate = :date")
+    int addRevenue(@Param("carId") Long carId,
+                   @Param("date") LocalDate date,
+                   @Param("amount") BigDecimal amount);
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.FleetUtilizationDto("
+            + "s.carId, s.carType, SUM(s.rentedUnits), SUM(s.availableUnits), SUM(s.revenue), "
+            + "SUM(s.rentalsCompleted), SUM(s.completedRentalDays)) "
+            + "FROM DailyFleetStat s WHERE s.statDate BETWEEN :from AND :to "
+            + "GROUP BY s.carId, s.carType ORDER BY s.carId")
+    List<FleetUtilizationDto> summarizeByCar(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.FleetUtilizationDto("
+            + "s.carType, SUM(s.rentedUnits), SUM(s.availableUnits), SUM(s.revenue), "
+            + "SUM(s.rentalsCompleted), SUM(s.completedRentalDays)) "
+            + "FROM DailyFleetStat s WHERE s.statDate BETWEEN :from AND :to "
+            + "GROUP BY s.carType ORDER BY s.carType")
+    List<FleetUtilizationDto> summarizeByCarType(@Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+}
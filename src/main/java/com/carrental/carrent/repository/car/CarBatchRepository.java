@@ -0,0 +1,59 @@
+package com.carrental.carrent.repository.car;
+
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.model.CarType;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access for bulk car import and export, bypassing the persistence context.
+ * Inserts go out as one batch per call; exports are streamed row by row.
+ */
+@Repository
+public class CarBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO cars (brand, model, car_type, inventory, daily_fee, is_deleted)
+            VALUES (?, ?, ?, ?, ?, false)""";
+    private static final String EXPORT_SQL = """
+            SELECT id, brand, model, car_type, inventory, daily_fee
+            FROM cars
+            WHERE is_deleted = false
+            ORDER BY id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CarBatchRepository(DataSource dataSource,
+                              @Value("${reports.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Transactional
+    public void insertAll(List<CarDto> cars) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, cars, cars.size(), (ps, car) -> {
+            ps.setString(1, car.getBrand());
+            ps.setString(2, car.getModel());
+            ps.setInt(3, car.getCarType().ordinal());
+            ps.setInt(4, car.getInventory());
+            ps.setBigDecimal(5, car.getDailyFee());
+        });
+    }
+
+    public void streamAll(Consumer<CarDto> consumer) {
+        jdbcTemplate.query(EXPORT_SQL, rs -> {
+            CarDto car = new CarDto();
+            car.setId(rs.getLong(1));
+            car.setBrand(rs.getString(2));
+            car.setModel(rs.getString(3));
+            car.setCarType(CarType.values()[rs.getInt(4)]);
+            car.setInventory(rs.getInt(5));
+            car.setDailyFee(rs.getBigDecimal(6));
+            consumer.accept(car);
+        });
+    }
+}
@@ -1,7 +1,27 @@
 package com.carrental.carrent.repository.car;
 
+import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.model.Car;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CarRepository extends JpaRepository<Car, Long> {
+    @Query(value = "SELECT new com.carrental.carrent.dto.car.CarDto("
+            + "c.id, c.model, c.brand, c.carType, c.inventory, c.dailyFee) FROM Car c",
+            countQuery = "SELECT COUNT(c) FROM Car c")
+    Page<CarDto> findAllDtos(Pageable pageable);
+
+    /**
+     * Loads a car for an inventory change. The row lock serializes rentals of
+     * the same car, so their version bumps cannot fail the optimistic check.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Car c WHERE c.id = :id")
+    Optional<Car> findByIdForUpdate(@Param("id") Long id);
 }
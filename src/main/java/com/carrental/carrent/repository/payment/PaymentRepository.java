@@ -1,16 +1,45 @@
 package com.carrental.carrent.repository.payment;
 
+import com.carrental.carrent.dto.analytics.CarRevenue;
+import com.carrental.carrent.dto.payment.PaymentDto;
+import com.carrental.carrent.dto.payment.PendingPaymentSummary;
 import com.carrental.carrent.model.Payment;
+import com.carrental.carrent.model.Status;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findBySessionId(String sessionId);
 
     List<Payment> findByRentalId(Long rentalId);
 
-    @Query("SELECT p FROM Payment p WHERE p.status = 'PENDING'")
-    List<Payment> findExpiredPendingPayments();
+    @Query("SELECT new com.carrental.carrent.dto.payment.PaymentDto(p.id, p.amountToPay, "
+            + "p.status, p.paymentType, p.rentalId, p.sessionId, p.sessionUrl) "
+            + "FROM Payment p WHERE p.rentalId = :rentalId")
+    List<PaymentDto> findDtosByRentalId(@Param("rentalId") Long rentalId);
+
+    @Query("SELECT new com.carrental.carrent.dto.payment.PaymentDto(p.id, p.amountToPay, "
+            + "p.status, p.paymentType, p.rentalId, p.sessionId, p.sessionUrl) "
+            + "FROM Payment p WHERE p.status <> 'PAID'")
+    List<PaymentDto> findUnpaidDtos();
+
+    @Query("SELECT new com.carrental.carrent.dto.payment.PendingPaymentSummary(p.id, "
+            + "p.amountToPay, p.paymentType, p.rentalId, u.firstName, u.lastName) "
+            + "FROM Payment p LEFT JOIN Rental r ON r.id = p.rentalId "
+            + "LEFT JOIN User u ON u.id = r.userId WHERE p.status <> 'PAID' ORDER BY p.id")
+    List<PendingPaymentSummary> findUnpaidSummaries();
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :newStatus WHERE p.status = :status")
+    int updateStatus(@Param("status") Status status, @Param("newStatus") Status newStatus);
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.CarRevenue(r.carId, SUM(p.amountToPay)) "
+            + "FROM Payment p JOIN Rental r ON r.id = p.rentalId "
+            + "WHERE p.status = 'PAID' AND r.rentalDate = :date GROUP BY r.carId")
+    List<CarRevenue> sumPaidByCarForRentalDate(@Param("date") LocalDate date);
 }
@@ -0,0 +1,7 @@
+package com.carrental.carrent.repository.pricing;
+
+import com.carrental.carrent.model.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+}
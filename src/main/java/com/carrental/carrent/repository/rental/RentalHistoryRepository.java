@@ -0,0 +1,45 @@
+package com.carrental.carrent.repository.rental;
+
+import com.carrental.carrent.model.Rental;
+import jakarta.persistence.EntityManager;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streams a user's rental history straight from the result set. Rows are read
+ * with the configured JDBC fetch size and detached as they are consumed, so the
+ * persistence context does not grow with the size of the history. The stream
+ * must be consumed and closed inside a transaction.
+ */
+@Repository
+public class RentalHistoryRepository {
+    private static final String HISTORY_JPQL =
+            "SELECT r FROM Rental r WHERE r.userId = :userId";
+    private static final String ACTIVE_CLAUSE = " AND r.actualReturnDate IS NULL";
+    private static final String RETURNED_CLAUSE = " AND r.actualReturnDate IS NOT NULL";
+    private static final String ORDER_CLAUSE = " ORDER BY r.rentalDate DESC, r.id DESC";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public RentalHistoryRepository(EntityManager entityManager,
+                                   @Value("${rentals.history.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    public Stream<Rental> streamByUser(Long userId, Boolean isActive) {
+        String jpql = HISTORY_JPQL;
+        if (isActive != null) {
+            jpql += isActive ? ACTIVE_CLAUSE : RETURNED_CLAUSE;
+        }
+        return entityManager.createQuery(jpql + ORDER_CLAUSE, Rental.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+}
@@ -1,23 +1,104 @@
 package com.carrental.carrent.repository.rental;
 
+import com.carrental.carrent.dto.analytics.CarCount;
+import com.carrental.carrent.dto.rental.ActiveRentalSummary;
+import com.carrental.carrent.dto.rental.RentalDetails;
+import com.carrental.carrent.dto.rental.RentalDueDate;
+import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.model.Rental;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface RentalRepository extends
-        JpaRepository<Rental, Long>, JpaSpecificationExecutor<Rental> {
+public interface RentalRepository extends JpaRepository<Rental, Long> {
+    String RESPONSE_DTO = "SELECT new com.carrental.carrent.dto.rental.RentalResponseDto("
+            + "r.id, r.rentalDate, r.returnDate, r.actualReturnDate, r.carId, r.userId) ";
+    String BY_USER_AND_STATUS = "FROM Rental r WHERE r.userId = :userId "
+            + "AND (:isActive IS NULL "
+            + "OR (:isActive = true AND r.actualReturnDate IS NULL) "
+            + "OR (:isActive = false AND r.actualReturnDate IS NOT NULL))";
+
     Optional<Rental> findByUserId(Long userId);
 
     Optional<Rental> findByUserIdAndActualReturnDateIsNull(Long userId);
 
     boolean existsByUserIdAndActualReturnDateIsNull(Long userId);
 
+    @Query(RESPONSE_DTO + "FROM Rental r WHERE r.actualReturnDate IS NULL")
+    List<RentalResponseDto> findActiveResponseDtos();
+
+    @Query("SELECT new com.carrental.carrent.dto.rental.ActiveRentalSummary(r.id, "
+            + "r.rentalDate, r.returnDate, u.firstName, u.lastName, c.brand, c.model) "
+            + "FROM Rental r LEFT JOIN User u ON u.id = r.userId "
+            + "LEFT JOIN Car c ON c.id = r.carId "
+            + "WHERE r.actualReturnDate IS NULL ORDER BY r.id")
+    List<ActiveRentalSummary> findActiveSummaries();
+
+    @Query("SELECT new com.carrental.carrent.dto.rental.RentalDetails(r, u, c) "
+            + "FROM Rental r JOIN User u ON u.id = r.userId JOIN Car c ON c.id = r.carId "
+            + "WHERE r.id = :id")
+    Optional<RentalDetails> findDetailsById(@Param("id") Long id);
+
+    @Query(RESPONSE_DTO + BY_USER_AND_STATUS)
+    List<RentalResponseDto> findResponseDtosByUser(@Param("userId") Long userId,
+                                                   @Param("isActive") Boolean isActive);
+
+    @Query(value = RESPONSE_DTO + BY_USER_AND_STATUS,
+            countQuery = "SELECT COUNT(r) " + BY_USER_AND_STATUS)
+    Page<RentalResponseDto> findResponseDtosByUser(@Param("userId") Long userId,
+                                                   @Param("isActive") Boolean isActive,
+                                                   Pageable pageable);
+
     @Query("SELECT r FROM Rental r WHERE r.actualReturnDate IS "
             + "NULL AND r.returnDate < :currentDate")
     List<Rental> findOverdueActiveRentals(@Param("currentDate") LocalDate now);
+
+    @Query("SELECT new com.carrental.carrent.dto.rental.RentalDueDate(r.id, r.returnDate) "
+            + "FROM Rental r WHERE r.actualReturnDate IS NULL")
+    List<RentalDueDate> findActiveRentalDueDates();
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.finedThrough = :date "
+            + "WHERE r.id = :id AND r.finedThrough IS NULL")
+    int claimFirstFine(@Param("id") Long id, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.finedThrough = :date "
+            + "WHERE r.id = :id AND r.finedThrough = :previous")
+    int advanceFinedThrough(@Param("id") Long id,
+                            @Param("previous") LocalDate previous,
+                            @Param("date") LocalDate date);
+
+    @Query("SELECT r FROM Rental r WHERE r.actualReturnDate IS NULL "
+            + "AND r.returnDate < :currentDate AND MOD(r.id, :shardCount) = :shard")
+    List<Rental> findOverdueActiveRentalsInShard(@Param("currentDate") LocalDate now,
+                                                 @Param("shardCount") long shardCount,
+                                                 @Param("shard") long shard);
+
+    @Query("SELECT COUNT(r) FROM Rental r WHERE r.carId = :carId AND r.rentalDate <= :date "
+            + "AND (r.actualReturnDate IS NULL OR r.actualReturnDate > :date)")
+    long countActiveOn(@Param("carId") Long carId, @Param("date") LocalDate date);
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.CarCount(r.carId, COUNT(r)) "
+            + "FROM Rental r WHERE r.rentalDate <= :date "
+            + "AND (r.actualReturnDate IS NULL OR r.actualReturnDate > :date) GROUP BY r.carId")
+    List<CarCount> countActiveByCarOn(@Param("date") LocalDate date);
+
+    long countByCarIdAndActualReturnDateIsNull(Long carId);
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.CarCount(r.carId, COUNT(r)) "
+            + "FROM Rental r WHERE r.actualReturnDate IS NULL GROUP BY r.carId")
+    List<CarCount> countUnreturnedByCar();
+
+    @Query("SELECT new com.carrental.carrent.dto.analytics.CarCount(r.carId, COUNT(r)) "
+            + "FROM Rental r WHERE r.rentalDate = :date GROUP BY r.carId")
+    List<CarCount> countStartedByCarOn(@Param("date") LocalDate date);
+
+    List<Rental> findByActualReturnDate(LocalDate actualReturnDate);
 }
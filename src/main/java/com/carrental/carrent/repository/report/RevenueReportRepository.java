@@ -0,0 +1,39 @@
+package com.carrental.carrent.repository.report;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access for revenue exports. Rows are handed to the callback as they
+ * arrive from a forward-only, read-only result set, so nothing is materialized.
+ */
+@Repository
+public class RevenueReportRepository {
+    private static final String REVENUE_SQL = """
+            SELECT r.rental_date, p.id, p.payment_type, c.id AS car_id, c.car_type,
+                   p.amount_to_pay
+            FROM payments p
+            JOIN rentals r ON r.id = p.rental_id
+            JOIN cars c ON c.id = r.car_id
+            WHERE p.is_deleted = false
+              AND p.status = 'PAID'
+              AND r.rental_date BETWEEN ? AND ?
+            ORDER BY r.rental_date, p.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RevenueReportRepository(DataSource dataSource,
+                                   @Value("${reports.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamPaidPayments(LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        jdbcTemplate.query(REVENUE_SQL, handler, Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -0,0 +1,52 @@
+package com.carrental.carrent.repository.scheduling;
+
+import com.carrental.carrent.model.JobLease;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Lease writes run in their own transactions so that a lease is visible to
+ * other nodes as soon as it is taken, independent of the job's transaction.
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    @Modifying
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leaseUntil = :until, "
+            + "l.heartbeatAt = :now "
+            + "WHERE l.jobName = :jobName AND (l.leaseUntil <= :now OR l.owner = :owner)")
+    int takeOver(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now,
+                 @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Query(value = "INSERT INTO job_leases (job_name, owner, lease_until, heartbeat_at) "
+            + "VALUES (:jobName, :owner, :until, :now)", nativeQuery = true)
+    int insert(@Param("jobName") String jobName,
+               @Param("owner") String owner,
+               @Param("now") LocalDateTime now,
+               @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Query("UPDATE JobLease l SET l.heartbeatAt = :now, l.leaseUntil = "
+            + "CASE WHEN l.leaseUntil < :until THEN :until ELSE l.leaseUntil END "
+            + "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int heartbeat(@Param("jobName") String jobName,
+                  @Param("owner") String owner,
+                  @Param("now") LocalDateTime now,
+                  @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Query("UPDATE JobLease l SET l.leaseUntil = :now "
+            + "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
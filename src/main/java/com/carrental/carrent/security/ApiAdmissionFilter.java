@@ -0,0 +1,193 @@
+package com.carrental.carrent.security;
+
+import com.carrental.carrent.exception.ErrorResponse;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.security.ratelimit.AdaptiveConcurrencyLimiter;
+import com.carrental.carrent.security.ratelimit.TokenBucketSketch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for the API, run once the caller is authenticated.
+ *
+ * <p>Each caller first takes a token from its role's buckets: managers and
+ * customers are keyed by email, anonymous callers by client address. A
+ * caller over its rate gets 429. Then the request needs a slot from the
+ * global {@link AdaptiveConcurrencyLimiter}; when the server is saturated it
+ * gets 503 at once instead of waiting for a database connection behind
+ * everyone else. Actuator endpoints are never limited, so health probes keep
+ * working under overload. Streaming responses hold their slot only until
+ * streaming starts; their executors bound them from there.
+ *
+ * <p>Routes whose time is spent elsewhere ({@code api.admission.latency-excluded-paths}:
+ * Stripe calls, password hashing on its own pool, bulk imports and reports)
+ * still take a slot, but their latency does not move the limit, so a slow
+ * Stripe or a login burst cannot shrink the limit for everyone else.
+ */
+@Component
+public class ApiAdmissionFilter extends OncePerRequestFilter {
+    private static final String ACTUATOR_PATH = "/actuator/";
+
+    private final boolean rateLimitEnabled;
+    private final boolean admissionEnabled;
+    private final TokenBucketSketch managerBuckets;
+    private final TokenBucketSketch customerBuckets;
+    private final TokenBucketSketch anonymousBuckets;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final long overloadRetryAfterSeconds;
+    private final List<String> latencyExcludedPaths;
+    private final ObjectMapper objectMapper;
+    private final Counter rateLimited;
+    private final Counter overloaded;
+
+    public ApiAdmissionFilter(
+            @Value("${api.rate-limit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${api.rate-limit.manager.capacity:600}") int managerCapacity,
+            @Value("${api.rate-limit.manager.refill-period:1m}") Duration managerRefillPeriod,
+            @Value("${api.rate-limit.customer.capacity:120}") int customerCapacity,
+            @Value("${api.rate-limit.customer.refill-period:1m}") Duration customerRefillPeriod,
+            @Value("${api.rate-limit.anonymous.capacity:60}") int anonymousCapacity,
+            @Value("${api.rate-limit.anonymous.refill-period:1m}")
+            Duration anonymousRefillPeriod,
+            @Value("${api.rate-limit.buckets:65536}") int buckets,
+            @Value("${api.admission.enabled:true}") boolean admissionEnabled,
+            @Value("${api.admission.initial-limit:100}") int initialLimit,
+            @Value("${api.admission.min-limit:10}") int minLimit,
+            @Value("${api.admission.max-limit:200}") int maxLimit,
+            @Value("${api.admission.latency-threshold:1s}") Duration latencyThreshold,
+            @Value("${api.admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${api.admission.retry-after-seconds:1}") long overloadRetryAfterSeconds,
+            @Value("${api.admission.latency-excluded-paths:}") List<String> latencyExcludedPaths,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.admissionEnabled = admissionEnabled;
+        this.managerBuckets = new TokenBucketSketch(managerCapacity, managerRefillPeriod,
+                buckets);
+        this.customerBuckets = new TokenBucketSketch(customerCapacity, customerRefillPeriod,
+                buckets);
+        this.anonymousBuckets = new TokenBucketSketch(anonymousCapacity, anonymousRefillPeriod,
+                buckets);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit,
+                maxLimit, latencyThreshold, backoffRatio);
+        this.overloadRetryAfterSeconds = overloadRetryAfterSeconds;
+        this.latencyExcludedPaths = latencyExcludedPaths.stream()
+                .filter(path -> !path.isBlank())
+                .map(String::trim)
+                .toList();
+        this.objectMapper = objectMapper;
+        this.rateLimited = rejectedCounter(meterRegistry, "rate-limit");
+        this.overloaded = rejectedCounter(meterRegistry, "overload");
+        Gauge.builder("api.admission.limit", concurrencyLimiter,
+                        AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests allowed in flight at once")
+                .register(meterRegistry);
+        Gauge.builder("api.admission.in.flight", concurrencyLimiter,
+                        AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return path(request).startsWith(ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (rateLimitEnabled) {
+            long wait = takeToken(request);
+            if (wait > 0) {
+                rateLimited.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, "Request rate limit exceeded",
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+                return;
+            }
+        }
+        if (!admissionEnabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            overloaded.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Server is overloaded",
+                    overloadRetryAfterSeconds);
+            return;
+        }
+        if (isLatencyExcluded(path(request))) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                concurrencyLimiter.release();
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private boolean isLatencyExcluded(String path) {
+        for (String excluded : latencyExcludedPaths) {
+            if (path.equals(excluded) || path.startsWith(excluded + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private long takeToken(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return anonymousBuckets.tryAcquire(request.getRemoteAddr());
+        }
+        boolean manager = authentication.getAuthorities().stream()
+                .anyMatch(authority -> Role.MANAGER.getAuthority()
+                        .equals(authority.getAuthority()));
+        return (manager ? managerBuckets : customerBuckets).tryAcquire(authentication.getName());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message,
+                        long retryAfterSeconds) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(status.value(), status.getReasonPhrase(), message));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("api.admission.rejected")
+                .description("Requests refused before reaching a controller")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -4,6 +4,7 @@ import com.carrental.carrent.dto.user.UserLoginRequestDto;
 import com.carrental.carrent.dto.user.UserLoginResponseDto;
 import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.user.UserRepository;
+import com.carrental.carrent.security.ratelimit.LoginRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -18,8 +19,11 @@ public class AuthenticationService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public UserLoginResponseDto authenticate(UserLoginRequestDto requestDto) {
+    public UserLoginResponseDto authenticate(UserLoginRequestDto requestDto,
+                                             String clientAddress) {
+        loginRateLimiter.check(requestDto.getEmail(), clientAddress);
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         requestDto.getEmail(),
@@ -0,0 +1,47 @@
+package com.carrental.carrent.security;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt cost for this machine. Each step of the cost doubles the
+ * work, so one timed hash at the minimum cost is enough to find the highest
+ * cost that still hashes within the target time.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+    private static final int RUNS = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        if (minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt min strength " + minStrength
+                    + " is above max strength " + maxStrength);
+        }
+        long nanos = fastestHash(minStrength);
+        int strength = minStrength;
+        while (strength < maxStrength && nanos * 2 <= target.toNanos()) {
+            nanos *= 2;
+            strength++;
+        }
+        log.info("BCrypt strength {} (about {} ms per hash, target {} ms)",
+                strength, nanos / 1_000_000, target.toMillis());
+        return strength;
+    }
+
+    /** The fastest of a few runs, so a GC pause or a cold JIT does not lower the cost. */
+    private static long fastestHash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
@@ -1,22 +1,46 @@
 package com.carrental.carrent.security;
 
+import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        User cached = userPrincipalCache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with email: " + email));
+        userPrincipalCache.put(user);
+        return user;
+    }
+
+    /**
+     * Stores the rehashed password after a login whose stored hash used a
+     * lower BCrypt cost than the current encoder.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        userRepository.updatePassword(user.getId(), newPassword);
+        userPrincipalCache.evict(user.getEmail());
+        user.setPassword(newPassword);
+        return user;
     }
 }
@@ -0,0 +1,115 @@
+package com.carrental.carrent.security;
+
+import com.carrental.carrent.config.EventConfig;
+import com.carrental.carrent.repository.user.UserRepository;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * A Bloom filter of registered emails, loaded once at startup and extended
+ * by every registration on this instance. A negative answer means the email
+ * is certainly new here, so registration can skip its existence query; a
+ * positive one may be wrong and needs the query. Emails registered by other
+ * instances are missing, which is why the unique key on {@code users.email}
+ * still decides. Emails are compared lower-cased, like the MySQL collation.
+ *
+ * <p>Loading runs in the background after startup, on the primary. If it
+ * fails the filter stays unloaded and every email takes the existence query,
+ * which is slower but still correct.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean loaded;
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            @Value("${security.registered-emails.expected:1000000}") long expectedEmails,
+            @Value("${security.registered-emails.false-positive-rate:0.01}")
+            double falsePositiveRate) {
+        if (expectedEmails < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Registered email filter needs expected emails "
+                    + "above zero and a false positive rate between 0 and 1");
+        }
+        this.userRepository = userRepository;
+        double bitsPerEmail = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8,
+                (long) Math.ceil(expectedEmails * bitsPerEmail / Long.SIZE));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round(bitsPerEmail * Math.log(2)));
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        long[] count = new long[1];
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                add(email);
+                count[0]++;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not load registered emails, registration will query every email", e);
+            return;
+        }
+        loaded = true;
+        log.info("Loaded {} registered emails in {} ms", count[0],
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** False only if the email is certainly not registered; always true until loaded. */
+    public boolean mightBeRegistered(String email) {
+        if (!loaded) {
+            return true;
+        }
+        long hash = hash(email);
+        int step = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod((int) hash + (long) i * step, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String email) {
+        long hash = hash(email);
+        int step = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod((int) hash + (long) i * step, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static long hash(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
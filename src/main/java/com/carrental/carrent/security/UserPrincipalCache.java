@@ -0,0 +1,150 @@
+package com.carrental.carrent.security;
+
+import com.carrental.carrent.event.UserChangedEvent;
+import com.carrental.carrent.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Recently used users by email, so that authenticating a request does not
+ * query the users table every time. Entries are evicted on this instance
+ * when the user changes; changes made through other instances show after at
+ * most the time to live, much less than a token's own lifetime. Callers get
+ * a copy, so the cached user is never modified.
+ *
+ * <p>Lookups take no lock. Once the cache is over its size, a put evicts the
+ * least recently used of a small sample of entries, so eviction is
+ * approximately, not strictly, least recently used.
+ */
+@Component
+public class UserPrincipalCache {
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserPrincipalCache(@Value("${security.user-cache.max-size:10000}") int maxSize,
+                              @Value("${security.user-cache.ttl:60s}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new ConcurrentHashMap<>();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        Gauge.builder("cache.size", this, UserPrincipalCache::size)
+                .tag("cache", "users")
+                .register(meterRegistry);
+    }
+
+    /** A copy of the cached user, or null if absent or expired. */
+    public User get(String email) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = key(email);
+        Entry entry = entries.get(key);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.loadedAt > ttlNanos) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        entry.usedAt = now;
+        hits.increment();
+        return copy(entry.user);
+    }
+
+    public void put(User user) {
+        if (maxSize <= 0) {
+            return;
+        }
+        entries.put(key(user.getEmail()), new Entry(copy(user), System.nanoTime()));
+        while (entries.size() > maxSize) {
+            if (!evictOne()) {
+                return;
+            }
+        }
+    }
+
+    public void evict(String email) {
+        entries.remove(key(email));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.previousEmail());
+        evict(event.email());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** Removes an expired or the least recently used entry of a sample. */
+    private boolean evictOne() {
+        long now = System.nanoTime();
+        Map.Entry<String, Entry> victim = null;
+        int sampled = 0;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            if (now - candidate.getValue().loadedAt > ttlNanos) {
+                victim = candidate;
+                break;
+            }
+            if (victim == null || candidate.getValue().usedAt < victim.getValue().usedAt) {
+                victim = candidate;
+            }
+            if (++sampled == EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+        }
+        return victim != null && entries.remove(victim.getKey(), victim.getValue());
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static User copy(User source) {
+        User user = new User();
+        user.setId(source.getId());
+        user.setEmail(source.getEmail());
+        user.setFirstName(source.getFirstName());
+        user.setLastName(source.getLastName());
+        user.setPassword(source.getPassword());
+        user.setRole(source.getRole());
+        return user;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", "users")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long loadedAt;
+        private volatile long usedAt;
+
+        private Entry(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+            this.usedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.carrental.carrent.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how many requests are in flight at once, with a limit that adapts to
+ * latency in AIMD fashion. A request slower than the latency threshold means
+ * the server is queueing somewhere (connection pool, CPU, database), so the
+ * limit is cut by the backoff ratio, at most once per threshold period so
+ * that one slow burst counts once. Otherwise, while the server is using at
+ * least half of the limit, each request adds {@code 1 / limit}, about one
+ * more slot per limit's worth of fast requests.
+ *
+ * <p>Requests over the limit are refused at once rather than queued, so under
+ * overload latency stays near the threshold for the requests that get in.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecrease;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                               Duration latencyThreshold, double backoffRatio,
+                               LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy "
+                    + "1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.lastDecrease = new AtomicLong(nanoClock.getAsLong() - latencyThresholdNanos);
+    }
+
+    /**
+     * Takes a slot if one is free. Every successful call must be followed by
+     * {@link #release}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Frees the slot of a finished request and adjusts the limit to its latency. */
+    public void release(long latencyNanos) {
+        int finishedWith = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else {
+            increase(finishedWith);
+        }
+    }
+
+    /**
+     * Frees the slot of a finished request without adjusting the limit, for
+     * requests whose latency is set by something other than this server.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void decrease() {
+        long now = nanoClock.getAsLong();
+        long last = lastDecrease.get();
+        if (now - last < latencyThresholdNanos || !lastDecrease.compareAndSet(last, now)) {
+            return;
+        }
+        long bits;
+        double next;
+        do {
+            bits = limitBits.get();
+            next = Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio);
+        } while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(next)));
+    }
+
+    private void increase(int finishedWith) {
+        long bits;
+        double next;
+        do {
+            bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            if (finishedWith * 2 < limit || limit >= maxLimit) {
+                return;
+            }
+            next = Math.min(maxLimit, limit + 1 / limit);
+        } while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(next)));
+    }
+}
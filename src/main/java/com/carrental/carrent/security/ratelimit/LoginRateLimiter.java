@@ -0,0 +1,74 @@
+package com.carrental.carrent.security.ratelimit;
+
+import com.carrental.carrent.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles login attempts per client address and per email before any
+ * password is hashed or user loaded. The address limit stops one client
+ * trying many accounts; the email limit stops many clients trying one
+ * account. Every attempt takes a token, successful or not.
+ */
+@Component
+public class LoginRateLimiter {
+    private final boolean enabled;
+    private final TokenBucketSketch byAddress;
+    private final TokenBucketSketch byEmail;
+    private final Counter rejectedByAddress;
+    private final Counter rejectedByEmail;
+
+    public LoginRateLimiter(
+            @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.login.rate-limit.address.capacity:30}") int addressCapacity,
+            @Value("${security.login.rate-limit.address.refill-period:1m}")
+            Duration addressRefillPeriod,
+            @Value("${security.login.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${security.login.rate-limit.email.refill-period:1m}")
+            Duration emailRefillPeriod,
+            @Value("${security.login.rate-limit.buckets:65536}") int buckets,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.byAddress = new TokenBucketSketch(addressCapacity, addressRefillPeriod, buckets);
+        this.byEmail = new TokenBucketSketch(emailCapacity, emailRefillPeriod, buckets);
+        this.rejectedByAddress = rejectedCounter(meterRegistry, "address");
+        this.rejectedByEmail = rejectedCounter(meterRegistry, "email");
+    }
+
+    /**
+     * @throws TooManyRequestsException if the address or the email has used
+     *         up its attempts
+     */
+    public void check(String email, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long wait = byAddress.tryAcquire(clientAddress);
+        if (wait > 0) {
+            rejectedByAddress.increment();
+            throw rejected(wait);
+        }
+        wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (wait > 0) {
+            rejectedByEmail.increment();
+            throw rejected(wait);
+        }
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        return new TooManyRequestsException("Too many login attempts, try again later",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("security.login.rejected")
+                .description("Login attempts rejected by the rate limiter")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,105 @@
+package com.carrental.carrent.security.ratelimit;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for any number of keys in fixed memory, without locks.
+ *
+ * <p>Each bucket is a single {@code long}: the time its next token becomes
+ * free (the generic cell rate algorithm), so taking a token is one
+ * compare-and-set. A key maps to one bucket in each of two rows, like a
+ * count-min sketch, and is allowed only while both have a token. Keys that
+ * share a bucket share its budget, which can only make the limit stricter;
+ * with two rows an innocent key is throttled only when both of its buckets
+ * are hot. Buckets need no eviction: an idle bucket is simply full again.
+ *
+ * <p>Keys are hashed with a random per-instance seed, so clients cannot pick
+ * keys that collide with someone else's buckets.
+ */
+public class TokenBucketSketch {
+    private static final int ROWS = 2;
+
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long seed;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    /**
+     * @param capacity tokens a bucket holds, the largest burst it allows
+     * @param refillPeriod time to refill all {@code capacity} tokens
+     * @param width buckets per row, rounded up to a power of two
+     */
+    public TokenBucketSketch(int capacity, Duration refillPeriod, int width) {
+        this(capacity, refillPeriod, width, System::nanoTime);
+    }
+
+    TokenBucketSketch(int capacity, Duration refillPeriod, int width, LongSupplier nanoClock) {
+        if (capacity < 1 || width < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Token buckets need a capacity, a width "
+                    + "and a refill period above zero");
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.buckets = new AtomicLongArray(ROWS * rowWidth);
+        this.mask = rowWidth - 1;
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.seed = new SecureRandom().nextLong();
+        this.nanoClock = nanoClock;
+        // bucket times are relative to construction, so a zeroed bucket is full
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token for the key.
+     *
+     * @return zero if a token was taken, otherwise the nanoseconds until the
+     *         key's buckets have one again
+     */
+    public long tryAcquire(String key) {
+        long hash = hash(key);
+        int first = (int) hash & mask;
+        int second = mask + 1 + ((int) (hash >>> 32) & mask);
+        long now = nanoClock.getAsLong() - origin;
+        // check both rows first so that a full row does not drain the other
+        long wait = Math.max(waitNanos(first, now), waitNanos(second, now));
+        if (wait > 0) {
+            return wait;
+        }
+        wait = take(first, now);
+        return wait > 0 ? wait : take(second, now);
+    }
+
+    private long waitNanos(int index, long now) {
+        return Math.max(buckets.get(index), now) - now - burstToleranceNanos;
+    }
+
+    private long take(int index, long now) {
+        while (true) {
+            long nextFree = buckets.get(index);
+            long start = Math.max(nextFree, now);
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (buckets.compareAndSet(index, nextFree, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private long hash(String key) {
+        long hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
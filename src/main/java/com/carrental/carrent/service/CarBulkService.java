@@ -0,0 +1,14 @@
+package com.carrental.carrent.service;
+
+import com.carrental.carrent.dto.car.CarImportResultDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface CarBulkService {
+    CarImportResultDto importNdjson(InputStream inputStream) throws IOException;
+
+    CarImportResultDto importCsv(InputStream inputStream) throws IOException;
+
+    void exportNdjson(OutputStream outputStream) throws IOException;
+}
@@ -1,6 +1,10 @@
 package com.carrental.carrent.service;
 
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarQuoteDto;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,8 +15,12 @@ public interface CarService {
 
     CarDto findById(Long id);
 
+    Map<Long, CarDto> findByIds(Collection<Long> ids);
+
     CarDto update(Long id, CarDto carDto);
 
     void deleteById(Long id);
 
+    CarQuoteDto quote(Long id, LocalDate from, LocalDate to);
+
 }
@@ -0,0 +1,24 @@
+package com.carrental.carrent.service;
+
+import com.carrental.carrent.dto.analytics.FleetUtilizationDto;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.Payment;
+import com.carrental.carrent.model.Rental;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FleetAnalyticsService {
+    void recordRentalStarted(Rental rental, Car car);
+
+    void recordRentalReturned(Rental rental, Car car, LocalDate actualReturnDate);
+
+    void recordPaymentPaid(Payment payment);
+
+    List<FleetUtilizationDto> getUtilizationByCar(LocalDate from, LocalDate to);
+
+    List<FleetUtilizationDto> getUtilizationByCarType(LocalDate from, LocalDate to);
+
+    void reconcile(LocalDate from, LocalDate to);
+
+    void reconcileRecentDays();
+}
@@ -2,6 +2,7 @@ package com.carrental.carrent.service;
 
 import com.carrental.carrent.dto.payment.PaymentDto;
 import com.carrental.carrent.dto.payment.PaymentRequestDto;
+import com.carrental.carrent.dto.payment.PendingPaymentSummary;
 import java.util.List;
 
 public interface PaymentService {
@@ -12,5 +13,13 @@ public interface PaymentService {
     List<PaymentDto> getPayments(Long rentalId);
 
     List<PaymentDto> getAllActivePayments();
+
+    List<PendingPaymentSummary> getPendingPaymentSummaries();
+
+    void checkExpiredPayments();
+
+    void checkOverdueRentals();
+
+    void checkOverdueRentals(int shard, int shardCount);
 }
 
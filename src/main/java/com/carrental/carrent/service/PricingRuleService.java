@@ -0,0 +1,14 @@
+package com.carrental.carrent.service;
+
+import com.carrental.carrent.dto.pricing.PricingRuleDto;
+import java.util.List;
+
+public interface PricingRuleService {
+    List<PricingRuleDto> findAll();
+
+    PricingRuleDto save(PricingRuleDto pricingRuleDto);
+
+    void deleteById(Long id);
+
+    void reloadIndex();
+}
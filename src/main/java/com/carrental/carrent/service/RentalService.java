@@ -1,17 +1,32 @@
 package com.carrental.carrent.service;
 
+import com.carrental.carrent.dto.rental.ActiveRentalSummary;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface RentalService {
     RentalDto createRental(RentalDto rentalDto);
 
     List<RentalResponseDto> getAllRentals();
 
+    List<ActiveRentalSummary> getActiveRentalSummaries();
+
     List<RentalResponseDto> getRentalsByUserAndStatus(Long userId, Boolean isActive);
 
+    Page<RentalResponseDto> getRentalHistory(Long userId, Boolean isActive, Pageable pageable);
+
+    void writeRentalHistoryNdjson(Long userId, Boolean isActive, OutputStream outputStream)
+            throws IOException;
+
+    void writeRentalHistoryEvents(Long userId, Boolean isActive, OutputStream outputStream)
+            throws IOException;
+
     RentalResponseDto getSpecificRental();
 
     RentalResponseDto returnRentalDate(RentalReturnRequestDto requestDto);
@@ -0,0 +1,10 @@
+package com.carrental.carrent.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ReportService {
+    void writeRevenueCsv(LocalDate from, LocalDate to, OutputStream outputStream)
+            throws IOException;
+}
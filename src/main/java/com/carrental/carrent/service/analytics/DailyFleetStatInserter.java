@@ -0,0 +1,24 @@
+package com.carrental.carrent.service.analytics;
+
+import com.carrental.carrent.model.DailyFleetStat;
+import com.carrental.carrent.repository.analytics.DailyFleetStatRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts a fleet statistics row in its own transaction. Event listeners on
+ * several threads may create the same (day, car) row at once; the loser's
+ * unique key violation then rolls back only this insert, and the caller
+ * carries on with the row the winner created.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyFleetStatInserter {
+    private final DailyFleetStatRepository statRepository;
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void insert(DailyFleetStat stat) {
+        statRepository.saveAndFlush(stat);
+    }
+}
@@ -0,0 +1,57 @@
+package com.carrental.carrent.service.analytics;
+
+import com.carrental.carrent.config.EventConfig;
+import com.carrental.carrent.event.PaymentPaidEvent;
+import com.carrental.carrent.event.RentalCreatedEvent;
+import com.carrental.carrent.event.RentalReturnedEvent;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.payment.PaymentRepository;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.service.FleetAnalyticsService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Applies rental and payment events to the fleet statistics once the change
+ * is committed. Each event is applied in its own transaction, because a
+ * listener that falls back to the publishing thread would otherwise join the
+ * transaction that has just completed.
+ */
+@Component
+@RequiredArgsConstructor
+public class FleetStatsEventListener {
+    private final FleetAnalyticsService fleetAnalyticsService;
+    private final RentalRepository rentalRepository;
+    private final CarRepository carRepository;
+    private final PaymentRepository paymentRepository;
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalCreated(RentalCreatedEvent event) {
+        rentalRepository.findById(event.rentalId()).ifPresent(rental ->
+                carRepository.findById(event.carId()).ifPresent(car ->
+                        fleetAnalyticsService.recordRentalStarted(rental, car)));
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalReturned(RentalReturnedEvent event) {
+        rentalRepository.findById(event.rentalId()).ifPresent(rental ->
+                carRepository.findById(event.carId()).ifPresent(car ->
+                        fleetAnalyticsService.recordRentalReturned(rental, car,
+                                event.actualReturnDate())));
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentPaid(PaymentPaidEvent event) {
+        paymentRepository.findById(event.paymentId())
+                .ifPresent(fleetAnalyticsService::recordPaymentPaid);
+    }
+}
@@ -0,0 +1,179 @@
+package com.carrental.carrent.service.fleet;
+
+import com.carrental.carrent.config.EventConfig;
+import com.carrental.carrent.config.logging.LogSampler;
+import com.carrental.carrent.dto.car.CarInventoryDeltaDto;
+import com.carrental.carrent.event.CarInventoryChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed inventory changes out to {@code /cars/stream} subscribers.
+ *
+ * <p>Each change is serialized once into a shared, immutable SSE frame. A
+ * subscriber only holds a bounded queue of references to such frames, drained
+ * by the stream executor; a subscriber whose queue is full is disconnected
+ * instead of buffering without limit, and is expected to reload {@code /cars}
+ * and reconnect. Keep-alive comments go through the same queues, so dead
+ * connections are detected and dropped.
+ *
+ * <p>Changes are broadcast on the committing thread, right after commit, but
+ * two transactions on the same car can still reach the hub in either order.
+ * Every frame therefore carries the car's {@code version}, which grows in
+ * commit order; clients keep the highest version seen per car and drop frames
+ * with a lower one. The frame id is {@code carId:version}.
+ */
+@Slf4j
+@Component
+public class FleetStatusHub {
+    private static final String EVENT_NAME = "inventory";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final LogSampler evictionSampler = new LogSampler(Duration.ofSeconds(10));
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final Set<DataWithMediaType> heartbeat =
+            SseEmitter.event().comment("keep-alive").build();
+
+    public FleetStatusHub(ObjectMapper objectMapper,
+                          @Qualifier(EventConfig.FLEET_STREAM_EXECUTOR) Executor executor,
+                          TaskScheduler taskScheduler,
+                          @Value("${fleet.stream.buffer-size:32}") int bufferSize,
+                          @Value("${fleet.stream.max-subscribers:5000}") int maxSubscribers,
+                          @Value("${fleet.stream.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${fleet.stream.heartbeat-interval-ms:15000}")
+                          long heartbeatIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        taskScheduler.scheduleAtFixedRate(this::sendHeartbeat,
+                Duration.ofMillis(heartbeatIntervalMs));
+    }
+
+    /**
+     * Opens a new stream, or returns empty when the hub is at capacity.
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(emitter);
+        return Optional.of(emitter);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(CarInventoryChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        CarInventoryDeltaDto delta = new CarInventoryDeltaDto(event.carId(),
+                event.inventory(), event.delta(), event.version());
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.error("Cannot serialize inventory change for car {}", event.carId(), e);
+            return;
+        }
+        broadcast(SseEmitter.event()
+                .id(event.carId() + ":" + event.version())
+                .name(EVENT_NAME)
+                .data(data)
+                .build());
+    }
+
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    void broadcast(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(frame)) {
+                evict(subscriber);
+            } else if (subscriber.draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(() -> drain(subscriber));
+                } catch (RejectedExecutionException e) {
+                    evict(subscriber);
+                }
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(heartbeat);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> frame;
+            while ((frame = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+            long suppressed = evictionSampler.sample();
+            if (suppressed >= 0) {
+                log.warn("Disconnected slow fleet stream subscriber, {} remaining "
+                        + "({} similar suppressed)", subscribers.size(), suppressed);
+            }
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.carrental.carrent.service.impl;
+
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarImportErrorDto;
+import com.carrental.carrent.dto.car.CarImportResultDto;
+import com.carrental.carrent.event.CarsImportedEvent;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.repository.car.CarBatchRepository;
+import com.carrental.carrent.service.CarBulkService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CarBulkServiceImpl implements CarBulkService {
+    private static final List<String> CSV_COLUMNS =
+            List.of("brand", "model", "carType", "inventory", "dailyFee");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CarBatchRepository carBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader carReader;
+    private final ObjectWriter carWriter;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public CarBulkServiceImpl(CarBatchRepository carBatchRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              @Value("${cars.bulk.batch-size:1000}") int batchSize,
+                              @Value("${cars.bulk.max-reported-errors:1000}")
+                              int maxReportedErrors) {
+        this.carBatchRepository = carBatchRepository;
+        this.eventPublisher = eventPublisher;
+        this.carReader = objectMapper.readerFor(CarDto.class);
+        this.carWriter = objectMapper.writerFor(CarDto.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public CarImportResultDto importNdjson(InputStream inputStream) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = newReader(inputStream);
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(lineNumber, carReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    @Override
+    public CarImportResultDto importCsv(InputStream inputStream) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = newReader(inputStream);
+        String header = reader.readLine();
+        if (header == null) {
+            return run.finish();
+        }
+        int[] positions = csvPositions(splitCsv(header));
+        String line;
+        long lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(lineNumber, parseCsv(splitCsv(line), positions));
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    @Override
+    public void exportNdjson(OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        try {
+            carBatchRepository.streamAll(car -> {
+                try {
+                    out.write(carWriter.writeValueAsBytes(car));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private BufferedReader newReader(InputStream inputStream) {
+        return new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Splits one CSV line into fields. A field may be enclosed in double quotes
+     * to contain commas, with a doubled quote standing for a quote; quoted
+     * fields cannot span lines.
+     */
+    private static String[] splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private int[] csvPositions(String[] header) {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            byName.put(header[i].trim(), i);
+        }
+        int[] positions = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Integer position = byName.get(CSV_COLUMNS.get(i));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header must contain columns: "
+                        + String.join(",", CSV_COLUMNS));
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    private CarDto parseCsv(String[] fields, int[] positions) {
+        for (int position : positions) {
+            if (position >= fields.length) {
+                throw new IllegalArgumentException("Expected at least "
+                        + (position + 1) + " columns but got " + fields.length);
+            }
+        }
+        CarDto car = new CarDto();
+        car.setBrand(fields[positions[0]].trim());
+        car.setModel(fields[positions[1]].trim());
+        try {
+            car.setCarType(CarType.valueOf(fields[positions[2]].trim()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Unknown carType: " + fields[positions[2]].trim());
+        }
+        try {
+            car.setInventory(Integer.parseInt(fields[positions[3]].trim()));
+            car.setDailyFee(new BigDecimal(fields[positions[4]].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("inventory and dailyFee must be numbers");
+        }
+        return car;
+    }
+
+    private static String validate(CarDto car) {
+        if (car.getBrand() == null || car.getBrand().isBlank()) {
+            return "brand is required";
+        }
+        if (car.getModel() == null || car.getModel().isBlank()) {
+            return "model is required";
+        }
+        if (car.getCarType() == null) {
+            return "carType is required";
+        }
+        if (car.getInventory() < 0) {
+            return "inventory cannot be negative";
+        }
+        if (car.getDailyFee() == null || car.getDailyFee().signum() <= 0) {
+            return "dailyFee must be positive";
+        }
+        return null;
+    }
+
+    /**
+     * Accumulates valid records into batches and collects per-line errors for
+     * a single import request.
+     */
+    private final class ImportRun {
+        private final List<CarDto> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchLines = new ArrayList<>(batchSize);
+        private final List<CarImportErrorDto> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        void accept(long line, CarDto car) {
+            received++;
+            String error = validate(car);
+            if (error != null) {
+                rejectReceived(line, error);
+                return;
+            }
+            car.setId(null);
+            batch.add(car);
+            batchLines.add(line);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            received++;
+            rejectReceived(line, message);
+        }
+
+        CarImportResultDto finish() {
+            flush();
+            CarImportResultDto result =
+                    new CarImportResultDto(received, imported, rejected, List.copyOf(errors));
+            if (imported > 0) {
+                eventPublisher.publishEvent(new CarsImportedEvent(result));
+            }
+            return result;
+        }
+
+        private void rejectReceived(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new CarImportErrorDto(line, message));
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                carBatchRepository.insertAll(batch);
+                imported += batch.size();
+            } catch (DataAccessException e) {
+                String message = "Batch insert failed: " + e.getMostSpecificCause().getMessage();
+                for (Long line : batchLines) {
+                    rejectReceived(line, message);
+                }
+            }
+            batch.clear();
+            batchLines.clear();
+        }
+    }
+}
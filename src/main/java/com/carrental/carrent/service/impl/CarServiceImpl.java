@@ -1,16 +1,25 @@
 package com.carrental.carrent.service.impl;
 
+import com.carrental.carrent.config.datasource.ReadFromReplica;
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarQuoteDto;
+import com.carrental.carrent.event.CarAddedEvent;
 import com.carrental.carrent.exception.EntityNotFoundException;
 import com.carrental.carrent.mapper.CarMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.repository.car.CarRepository;
 import com.carrental.carrent.service.CarService;
-import jakarta.transaction.Transactional;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
@@ -18,27 +27,40 @@ import org.springframework.stereotype.Service;
 public class CarServiceImpl implements CarService {
     private final CarRepository carRepository;
     private final CarMapper carMapper;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CarDto save(CarDto carDto) {
         Car car = carMapper.toEntity(carDto);
         carRepository.save(car);
+        eventPublisher.publishEvent(new CarAddedEvent(car.getId()));
         return carMapper.toDto(car);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public Page<CarDto> findAll(Pageable pageable) {
-        return carRepository.findAll(pageable)
-                .map(carMapper::toDto);
+        return carRepository.findAllDtos(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public CarDto findById(Long id) {
         return carMapper.toDto(carRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Car not found")
                 ));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, CarDto> findByIds(Collection<Long> ids) {
+        return carRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Car::getId, carMapper::toDto));
+    }
+
     @Override
     public CarDto update(Long id, CarDto carDto) {
         Car car = carRepository.findById(id).orElseThrow(
@@ -54,4 +76,17 @@ public class CarServiceImpl implements CarService {
     public void deleteById(Long id) {
         carRepository.deleteById(id);
     }
+
+    @Override
+    public CarQuoteDto quote(Long id, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Return date cannot be before rental date");
+        }
+        Car car = carRepository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("Car not found")
+        );
+        return new CarQuoteDto(car.getId(), car.getCarType(), from, to,
+                PricingEngine.rentalDays(from, to), car.getDailyFee(),
+                pricingEngine.rentalPrice(car.getCarType(), car.getDailyFee(), from, to));
+    }
 }
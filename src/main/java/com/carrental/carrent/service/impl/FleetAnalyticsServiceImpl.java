@@ -0,0 +1,235 @@
+package com.carrental.carrent.service.impl;
+
+import com.carrental.carrent.dto.analytics.CarCount;
+import com.carrental.carrent.dto.analytics.CarRevenue;
+import com.carrental.carrent.dto.analytics.FleetUtilizationDto;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.DailyFleetStat;
+import com.carrental.carrent.model.Payment;
+import com.carrental.carrent.model.Rental;
+import com.carrental.carrent.repository.analytics.DailyFleetStatRepository;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.payment.PaymentRepository;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.service.FleetAnalyticsService;
+import com.carrental.carrent.service.analytics.DailyFleetStatInserter;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the {@code daily_fleet_stats} aggregate: one row per car and day
+ * holding rented units, fleet units, started/completed rentals and revenue.
+ * Rental and payment events apply deltas with single-row updates after the
+ * originating transaction has committed; a nightly job rebuilds the most recent
+ * days from the source tables to correct any drift. Revenue is attributed to
+ * the rental date of the paid rental.
+ *
+ * <p>Rows created while applying a delta are seeded from committed rentals,
+ * which already include the change being recorded, so they are seeded without
+ * it and the delta is then applied to every row alike. Each new row is
+ * inserted in its own transaction and a concurrent insert of the same row is
+ * tolerated, so listeners racing on the {@code (stat_date, car_id)} key both
+ * apply their delta to the one row. All rows are created before any is
+ * updated, so those inserts never wait on locks held by the caller.
+ *
+ * <p>The fleet size of a car is its inventory plus its unreturned rentals.
+ * Only the current size is known, so a past day without a row takes the size
+ * from the car's latest earlier row, and the current size only when there is
+ * none.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FleetAnalyticsServiceImpl implements FleetAnalyticsService {
+    private final DailyFleetStatRepository statRepository;
+    private final RentalRepository rentalRepository;
+    private final PaymentRepository paymentRepository;
+    private final CarRepository carRepository;
+    private final DailyFleetStatInserter statInserter;
+
+    @Value("${analytics.fleet.reconcile-lookback-days:2}")
+    private int reconcileLookbackDays;
+
+    @Override
+    public void recordRentalStarted(Rental rental, Car car) {
+        LocalDate today = LocalDate.now();
+        LocalDate rentalDate = rental.getRentalDate();
+
+        boolean rentedFromToday = !rentalDate.isAfter(today);
+        if (rentedFromToday) {
+            ensureRows(car, rentalDate, today, 1);
+        }
+        ensureRows(car, rentalDate, rentalDate, 0);
+
+        if (rentedFromToday) {
+            statRepository.addRentedUnits(car.getId(), rentalDate, today, 1);
+        }
+        statRepository.incrementRentalsStarted(car.getId(), rentalDate);
+    }
+
+    @Override
+    public void recordRentalReturned(Rental rental, Car car, LocalDate actualReturnDate) {
+        LocalDate today = LocalDate.now();
+        int rentalDays = (int) Math.max(1,
+                ChronoUnit.DAYS.between(rental.getRentalDate(), actualReturnDate));
+
+        LocalDate releasedFrom = actualReturnDate.isBefore(rental.getRentalDate())
+                ? rental.getRentalDate()
+                : actualReturnDate;
+        boolean releasedByToday = !releasedFrom.isAfter(today);
+        if (releasedByToday) {
+            ensureRows(car, releasedFrom, today, -1);
+        }
+        ensureRows(car, actualReturnDate, actualReturnDate, 0);
+
+        if (releasedByToday) {
+            statRepository.addRentedUnits(car.getId(), releasedFrom, today, -1);
+        }
+        statRepository.addCompletedRental(car.getId(), actualReturnDate, rentalDays);
+    }
+
+    @Override
+    public void recordPaymentPaid(Payment payment) {
+        rentalRepository.findById(payment.getRentalId()).ifPresent(rental ->
+                carRepository.findById(rental.getCarId()).ifPresent(car -> {
+                    ensureRows(car, rental.getRentalDate(), rental.getRentalDate(), 0);
+                    statRepository.addRevenue(car.getId(), rental.getRentalDate(),
+                            payment.getAmountToPay());
+                }));
+    }
+
+    @Override
+    public List<FleetUtilizationDto> getUtilizationByCar(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return statRepository.summarizeByCar(from, to);
+    }
+
+    @Override
+    public List<FleetUtilizationDto> getUtilizationByCarType(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return statRepository.summarizeByCarType(from, to);
+    }
+
+    @Override
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        reconcile(today.minusDays(reconcileLookbackDays), today);
+    }
+
+    @Override
+    public void reconcile(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        LocalDate today = LocalDate.now();
+        List<Car> cars = carRepository.findAll();
+        Map<Long, Long> unreturned = toMap(rentalRepository.countUnreturnedByCar());
+        Map<Long, Integer> currentFleetUnits = cars.stream().collect(Collectors.toMap(
+                Car::getId,
+                car -> car.getInventory() + unreturned.getOrDefault(car.getId(), 0L).intValue()));
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<Long, Integer> fleetUnits = currentFleetUnits;
+            if (day.isBefore(today)) {
+                fleetUnits = new HashMap<>(currentFleetUnits);
+                for (DailyFleetStat recorded : statRepository.findLatestByCarOnOrBefore(day)) {
+                    fleetUnits.put(recorded.getCarId(), recorded.getAvailableUnits());
+                }
+            }
+            rebuildDay(day, cars, fleetUnits);
+        }
+    }
+
+    private void rebuildDay(LocalDate day, List<Car> cars, Map<Long, Integer> fleetUnits) {
+        statRepository.deleteByStatDate(day);
+
+        Map<Long, Long> active = toMap(rentalRepository.countActiveByCarOn(day));
+        Map<Long, Long> started = toMap(rentalRepository.countStartedByCarOn(day));
+        Map<Long, BigDecimal> revenue = paymentRepository.sumPaidByCarForRentalDate(day)
+                .stream()
+                .collect(Collectors.toMap(CarRevenue::carId, CarRevenue::revenue));
+        Map<Long, int[]> completed = new HashMap<>();
+        for (Rental rental : rentalRepository.findByActualReturnDate(day)) {
+            int[] totals = completed.computeIfAbsent(rental.getCarId(), id -> new int[2]);
+            totals[0]++;
+            totals[1] += (int) Math.max(1,
+                    ChronoUnit.DAYS.between(rental.getRentalDate(), day));
+        }
+
+        List<DailyFleetStat> stats = new ArrayList<>(cars.size());
+        for (Car car : cars) {
+            int[] completedTotals = completed.getOrDefault(car.getId(), new int[2]);
+            DailyFleetStat stat = newStat(day, car,
+                    active.getOrDefault(car.getId(), 0L).intValue(),
+                    fleetUnits.get(car.getId()));
+            stat.setRentalsStarted(started.getOrDefault(car.getId(), 0L).intValue());
+            stat.setRentalsCompleted(completedTotals[0]);
+            stat.setCompletedRentalDays(completedTotals[1]);
+            stat.setRevenue(revenue.getOrDefault(car.getId(), BigDecimal.ZERO));
+            stats.add(stat);
+        }
+        statRepository.saveAll(stats);
+    }
+
+    private void ensureRows(Car car, LocalDate from, LocalDate to, int pendingRentedUnits) {
+        LocalDate today = LocalDate.now();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (statRepository.existsByStatDateAndCarId(day, car.getId())) {
+                continue;
+            }
+            int rentedUnits = (int) rentalRepository.countActiveOn(car.getId(), day)
+                    - pendingRentedUnits;
+            DailyFleetStat stat = newStat(day, car, rentedUnits, fleetUnits(car, day, today));
+            try {
+                statInserter.insert(stat);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Fleet stats row for car {} on {} was created concurrently",
+                        car.getId(), day);
+            }
+        }
+    }
+
+    private int fleetUnits(Car car, LocalDate day, LocalDate today) {
+        if (day.isBefore(today)) {
+            Optional<DailyFleetStat> recorded = statRepository
+                    .findFirstByCarIdAndStatDateBeforeOrderByStatDateDesc(car.getId(), day);
+            if (recorded.isPresent()) {
+                return recorded.get().getAvailableUnits();
+            }
+        }
+        return car.getInventory()
+                + (int) rentalRepository.countByCarIdAndActualReturnDateIsNull(car.getId());
+    }
+
+    private DailyFleetStat newStat(LocalDate day, Car car, int rentedUnits, int fleetUnits) {
+        DailyFleetStat stat = new DailyFleetStat();
+        stat.setStatDate(day);
+        stat.setCarId(car.getId());
+        stat.setCarType(car.getCarType());
+        stat.setRentedUnits(rentedUnits);
+        stat.setAvailableUnits(fleetUnits);
+        return stat;
+    }
+
+    private Map<Long, Long> toMap(List<CarCount> counts) {
+        return counts.stream().collect(Collectors.toMap(CarCount::carId, CarCount::count));
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.carrental.carrent.service.impl;
 
+import com.carrental.carrent.config.datasource.ReadFromReplica;
 import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.dto.payment.PaymentDto;
 import com.carrental.carrent.dto.payment.PaymentRequestDto;
+import com.carrental.carrent.dto.payment.PendingPaymentSummary;
+import com.carrental.carrent.event.FineAppliedEvent;
+import com.carrental.carrent.event.PaymentPaidEvent;
+import com.carrental.carrent.event.RentalsOverdueEvent;
 import com.carrental.carrent.exception.EntityNotFoundException;
 import com.carrental.carrent.mapper.PaymentMapper;
 import com.carrental.carrent.model.Payment;
@@ -14,16 +19,23 @@ import com.carrental.carrent.repository.rental.RentalRepository;
 import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.PaymentService;
 import com.carrental.carrent.service.StripeService;
+import com.carrental.carrent.service.pricing.PricingEngine;
 import com.stripe.model.checkout.Session;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
@@ -33,8 +45,11 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentMapper paymentMapper;
     private final RentalRepository rentalRepository;
     private final CarService carService;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Timed(value = "payments.create", histogram = true)
     public String createPayment(PaymentRequestDto request) {
         Rental rental = rentalRepository.findById(request.getRentalId())
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -54,70 +69,124 @@ public class PaymentServiceImpl implements PaymentService {
 
     private BigDecimal calculatePaymentAmount(Rental rental, CarDto car) {
         if (rental.getRentalDate() != null && rental.getReturnDate() != null) {
-            long daysBetween = ChronoUnit.DAYS.between(
+            return pricingEngine.rentalPrice(car.getCarType(), car.getDailyFee(),
                     rental.getRentalDate(), rental.getReturnDate());
-            return car.getDailyFee().multiply(BigDecimal.valueOf(Math.max(1, daysBetween)));
         } else {
             return car.getDailyFee();
         }
     }
 
     @Override
+    @Transactional
     public void markPaymentSuccessful(String sessionId) {
         Payment payment = paymentRepository.findBySessionId(sessionId)
                 .orElseThrow(() -> new EntityNotFoundException("Payment not found"));
+        if (payment.getStatus() == Status.PAID) {
+            return;
+        }
         payment.setStatus(Status.PAID);
         paymentRepository.save(payment);
+        eventPublisher.publishEvent(new PaymentPaidEvent(payment.getId(), sessionId));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public List<PaymentDto> getPayments(Long rentalId) {
-        return paymentRepository.findByRentalId(rentalId)
-                .stream()
-                .map(paymentMapper::toDto)
-                .toList();
+        return paymentRepository.findDtosByRentalId(rentalId);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public List<PaymentDto> getAllActivePayments() {
-        return paymentRepository.findAll()
-                .stream()
-                .filter(payment -> payment.getStatus() != Status.PAID)
-                .map(paymentMapper::toDto)
-                .toList();
+        return paymentRepository.findUnpaidDtos();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
+    public List<PendingPaymentSummary> getPendingPaymentSummaries() {
+        return paymentRepository.findUnpaidSummaries();
     }
 
-    @Scheduled(fixedRate = 300000)
+    @Override
     @Transactional
     public void checkExpiredPayments() {
-        List<Payment> expiredPayments = paymentRepository.findExpiredPendingPayments();
-
-        for (Payment payment : expiredPayments) {
-            payment.setStatus(Status.EXPIRED);
-            paymentRepository.save(payment);
-        }
+        paymentRepository.updateStatus(Status.PENDING, Status.EXPIRED);
     }
 
-    @Scheduled(fixedRate = 300000)
+    @Override
     @Transactional
     public void checkOverdueRentals() {
-        List<Rental> overdueRentals = rentalRepository.findOverdueActiveRentals(LocalDate.now());
+        checkOverdueRentals(0, 1);
+    }
+
+    @Override
+    @Transactional
+    public void checkOverdueRentals(int shard, int shardCount) {
+        LocalDate today = LocalDate.now();
+        List<Rental> overdueRentals = shardCount <= 1
+                ? rentalRepository.findOverdueActiveRentals(today)
+                : rentalRepository.findOverdueActiveRentalsInShard(today, shardCount, shard);
+
+        fineOverdueRentals(overdueRentals, today);
+    }
+
+    @EventListener
+    @Transactional
+    public void onRentalsOverdue(RentalsOverdueEvent event) {
+        fineOverdueRentals(rentalRepository.findAllById(event.rentalIds()).stream()
+                .filter(rental -> rental.getActualReturnDate() == null)
+                .toList(), event.date());
+    }
 
+    /** Loads the cars of all rentals at once, then fines each rental. */
+    private void fineOverdueRentals(List<Rental> overdueRentals, LocalDate today) {
+        if (overdueRentals.isEmpty()) {
+            return;
+        }
+        Map<Long, CarDto> cars = carService.findByIds(overdueRentals.stream()
+                .map(Rental::getCarId)
+                .collect(Collectors.toSet()));
         for (Rental rental : overdueRentals) {
-            applyOverdueFine(rental);
+            applyOverdueFine(rental, today, cars.get(rental.getCarId()));
         }
     }
 
-    private void applyOverdueFine(Rental rental) {
-        CarDto car = carService.findById(rental.getCarId());
-
-        long overdueDays = ChronoUnit.DAYS.between(rental.getReturnDate(), LocalDate.now());
+    /**
+     * Fines the overdue days not fined yet. {@code finedThrough} is advanced
+     * with a compare-and-set, so concurrent runs for the same rental on other
+     * nodes or jobs cannot fine a day twice. A rental whose car is gone, so
+     * {@code car} is null, is logged and left unfined before anything is
+     * claimed.
+     */
+    private void applyOverdueFine(Rental rental, LocalDate today, CarDto car) {
+        LocalDate finedThrough = rental.getFinedThrough();
+        LocalDate finedFrom = finedThrough != null && finedThrough.isAfter(rental.getReturnDate())
+                ? finedThrough
+                : rental.getReturnDate();
+        long overdueDays = ChronoUnit.DAYS.between(finedFrom, today);
+        if (overdueDays <= 0) {
+            return;
+        }
+        if (car == null) {
+            log.warn("Cannot fine overdue rental id={}: car id={} not found",
+                    rental.getId(), rental.getCarId());
+            return;
+        }
 
-        if (overdueDays > 0) {
-            BigDecimal dailyFine = car.getDailyFee();
-            BigDecimal fineAmount = dailyFine.multiply(BigDecimal.valueOf(overdueDays));
-            createFinePayment(rental, fineAmount);
+        int claimed = finedThrough == null
+                ? rentalRepository.claimFirstFine(rental.getId(), today)
+                : rentalRepository.advanceFinedThrough(rental.getId(), finedThrough, today);
+        if (claimed == 0) {
+            return;
         }
+
+        BigDecimal fineAmount = pricingEngine.fine(car.getCarType(), car.getDailyFee(),
+                rental.getReturnDate(), overdueDays);
+        createFinePayment(rental, fineAmount);
+        eventPublisher.publishEvent(new FineAppliedEvent(rental.getId(), fineAmount, overdueDays));
     }
 
     private void createFinePayment(Rental rental, BigDecimal fineAmount) {
@@ -0,0 +1,92 @@
+package com.carrental.carrent.service.impl;
+
+import com.carrental.carrent.dto.analytics.FleetUtilizationDto;
+import com.carrental.carrent.dto.pricing.PricingRuleDto;
+import com.carrental.carrent.exception.EntityNotFoundException;
+import com.carrental.carrent.mapper.PricingRuleMapper;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.PricingRule;
+import com.carrental.carrent.repository.analytics.DailyFleetStatRepository;
+import com.carrental.carrent.repository.pricing.PricingRuleRepository;
+import com.carrental.carrent.service.PricingRuleService;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import com.carrental.carrent.service.pricing.PricingRuleIndex;
+import com.carrental.carrent.service.pricing.PricingRules;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+public class PricingRuleServiceImpl implements PricingRuleService {
+    private final PricingRuleRepository pricingRuleRepository;
+    private final PricingRuleMapper pricingRuleMapper;
+    private final PricingEngine pricingEngine;
+    private final DailyFleetStatRepository statRepository;
+
+    @Override
+    public List<PricingRuleDto> findAll() {
+        return pricingRuleRepository.findAll().stream()
+                .map(pricingRuleMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public PricingRuleDto save(PricingRuleDto pricingRuleDto) {
+        if (pricingRuleDto.getValidTo() != null
+                && pricingRuleDto.getValidTo().isBefore(pricingRuleDto.getValidFrom())) {
+            throw new IllegalArgumentException("Valid to date cannot be before valid from date");
+        }
+        PricingRule pricingRule = pricingRuleRepository.save(
+                pricingRuleMapper.toEntity(pricingRuleDto));
+        reloadIndexAfterCommit();
+        return pricingRuleMapper.toDto(pricingRule);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        if (!pricingRuleRepository.existsById(id)) {
+            throw new EntityNotFoundException("Pricing rule", id);
+        }
+        pricingRuleRepository.deleteById(id);
+        reloadIndexAfterCommit();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadIndex() {
+        List<PricingRule> rules = pricingRuleRepository.findAll();
+        LocalDate today = LocalDate.now();
+        Map<CarType, Integer> utilization = new EnumMap<>(CarType.class);
+        for (FleetUtilizationDto byType : statRepository.summarizeByCarType(today, today)) {
+            utilization.put(byType.carType(),
+                    (int) Math.round(byType.utilization() * PricingRules.BASIS_POINTS));
+        }
+        pricingEngine.replaceIndex(PricingRuleIndex.build(pricingEngine.defaultRules(), rules,
+                utilization));
+    }
+
+    private void reloadIndexAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadIndex();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        reloadIndex();
+                    }
+                });
+    }
+}
@@ -1,36 +1,64 @@
 package com.carrental.carrent.service.impl;
 
+import com.carrental.carrent.config.datasource.ReadFromReplica;
+import com.carrental.carrent.dto.rental.ActiveRentalSummary;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
+import com.carrental.carrent.event.CarInventoryChangedEvent;
+import com.carrental.carrent.event.RentalCreatedEvent;
+import com.carrental.carrent.event.RentalReturnedEvent;
 import com.carrental.carrent.exception.RentalNotFoundException;
 import com.carrental.carrent.mapper.RentalMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.model.Rental;
 import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.rental.RentalHistoryRepository;
 import com.carrental.carrent.repository.rental.RentalRepository;
-import com.carrental.carrent.repository.rental.RentalSpecification;
 import com.carrental.carrent.repository.user.UserRepository;
 import com.carrental.carrent.security.AuthenticationService;
 import com.carrental.carrent.service.RentalService;
-import jakarta.transaction.Transactional;
+import com.carrental.carrent.service.overdue.OverdueRentalTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class RentalServiceImpl implements RentalService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 256;
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final byte[] NEW_LINE = {'\n'};
+    private static final byte[] EVENT_PREFIX = "data: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_SUFFIX = {'\n', '\n'};
+
     private final RentalRepository rentalRepository;
+    private final RentalHistoryRepository rentalHistoryRepository;
+    private final ObjectMapper objectMapper;
     private final RentalMapper rentalMapper;
     private final AuthenticationService authenticationService;
     private final CarRepository carRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OverdueRentalTracker overdueRentalTracker;
 
     @Override
+    @Timed(value = "rentals.create", histogram = true)
     public RentalDto createRental(RentalDto rentalDto) {
         if (!userRepository.existsById(rentalDto.getUserId())) {
             throw new IllegalArgumentException("User with ID "
@@ -45,7 +73,7 @@ public class RentalServiceImpl implements RentalService {
                     + " already has an active rental");
         }
 
-        Car car = carRepository.findById(rentalDto.getCarId())
+        Car car = carRepository.findByIdForUpdate(rentalDto.getCarId())
                 .orElseThrow(() -> new IllegalArgumentException("Car with ID "
                         + rentalDto.getCarId() + " not found"));
 
@@ -58,37 +86,70 @@ public class RentalServiceImpl implements RentalService {
             throw new IllegalArgumentException("Return date cannot be before rental date");
         }
 
+        Rental rental = rentalMapper.toModel(rentalDto);
+
         car.setInventory(car.getInventory() - 1);
-        carRepository.save(car);
+        carRepository.saveAndFlush(car);
 
-        Rental rental = rentalMapper.toModel(rentalDto);
         Rental savedRental = rentalRepository.save(rental);
+        overdueRentalTracker.track(savedRental.getId(), savedRental.getReturnDate());
+        eventPublisher.publishEvent(new RentalCreatedEvent(savedRental.getId(),
+                savedRental.getUserId(), savedRental.getCarId()));
+        eventPublisher.publishEvent(
+                new CarInventoryChangedEvent(car.getId(), car.getInventory(), -1,
+                        car.getVersion()));
 
         return rentalMapper.toDto(savedRental);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public List<RentalResponseDto> getAllRentals() {
-        return rentalRepository.findAll().stream()
-                .filter(rental -> rental.getActualReturnDate() == null)
-                .map(rentalMapper::toResponseDto)
-                .toList();
+        return rentalRepository.findActiveResponseDtos();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
+    public List<ActiveRentalSummary> getActiveRentalSummaries() {
+        return rentalRepository.findActiveSummaries();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public List<RentalResponseDto> getRentalsByUserAndStatus(Long userId, Boolean isActive) {
-        Specification<Rental> spec = RentalSpecification.byUserId(userId);
+        return rentalRepository.findResponseDtosByUser(userId, isActive);
+    }
 
-        if (isActive != null) {
-            spec = spec.and(RentalSpecification.isActive(isActive));
-        }
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
+    public Page<RentalResponseDto> getRentalHistory(Long userId, Boolean isActive,
+                                                    Pageable pageable) {
+        return rentalRepository.findResponseDtosByUser(userId, isActive, pageable);
+    }
 
-        return rentalRepository.findAll(spec).stream()
-                .map(rentalMapper::toResponseDto)
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
+    public void writeRentalHistoryNdjson(Long userId, Boolean isActive,
+                                         OutputStream outputStream) throws IOException {
+        writeRentalHistory(userId, isActive, outputStream, NO_BYTES, NEW_LINE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
+    public void writeRentalHistoryEvents(Long userId, Boolean isActive,
+                                         OutputStream outputStream) throws IOException {
+        writeRentalHistory(userId, isActive, outputStream, EVENT_PREFIX, EVENT_SUFFIX);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @ReadFromReplica
     public RentalResponseDto getSpecificRental() {
         User authenticatedUser = authenticationService.getAuthenticatedUser();
         Rental rental = rentalRepository.findByUserId(authenticatedUser.getId())
@@ -99,6 +160,7 @@ public class RentalServiceImpl implements RentalService {
     }
 
     @Override
+    @Timed(value = "rentals.return", histogram = true)
     public RentalResponseDto returnRentalDate(RentalReturnRequestDto requestDto) {
         User authenticatedUser = authenticationService.getAuthenticatedUser();
 
@@ -107,12 +169,21 @@ public class RentalServiceImpl implements RentalService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No active rental found for user ID: " + authenticatedUser.getId()));
 
-        Car car = carRepository.findById(rental.getCarId())
+        Car car = carRepository.findByIdForUpdate(rental.getCarId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Car not found with ID: " + rental.getCarId()));
 
+        if (requestDto.getActualReturnDate() != null) {
+            overdueRentalTracker.untrack(rental.getId());
+            eventPublisher.publishEvent(new RentalReturnedEvent(rental.getId(),
+                    car.getId(), requestDto.getActualReturnDate()));
+        }
+
         car.setInventory(car.getInventory() + 1);
-        carRepository.save(car);
+        carRepository.saveAndFlush(car);
+        eventPublisher.publishEvent(
+                new CarInventoryChangedEvent(car.getId(), car.getInventory(), 1,
+                        car.getVersion()));
 
         rental.setActualReturnDate(requestDto.getActualReturnDate());
         rentalRepository.save(rental);
@@ -120,4 +191,23 @@ public class RentalServiceImpl implements RentalService {
         return rentalMapper.toResponseDto(rental);
     }
 
+    private void writeRentalHistory(Long userId, Boolean isActive, OutputStream outputStream,
+                                    byte[] prefix, byte[] suffix) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        try (Stream<Rental> rentals = rentalHistoryRepository.streamByUser(userId, isActive)) {
+            Iterator<Rental> iterator = rentals.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                out.write(prefix);
+                out.write(objectMapper.writeValueAsBytes(
+                        rentalMapper.toResponseDto(iterator.next())));
+                out.write(suffix);
+                // the first row goes out at once, later rows in buffered chunks
+                if (++written % FLUSH_EVERY == 1) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+    }
 }
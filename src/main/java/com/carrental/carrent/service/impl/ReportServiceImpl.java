@@ -0,0 +1,67 @@
+package com.carrental.carrent.service.impl;
+
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.repository.report.RevenueReportRepository;
+import com.carrental.carrent.service.ReportService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+    private static final String REVENUE_HEADER =
+            "day,payment_id,payment_type,car_id,car_type,amount\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RevenueReportRepository revenueReportRepository;
+
+    @Override
+    public void writeRevenueCsv(LocalDate from, LocalDate to, OutputStream outputStream)
+            throws IOException {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(REVENUE_HEADER);
+        StringBuilder line = new StringBuilder(96);
+        try {
+            revenueReportRepository.streamPaidPayments(from, to, rs -> {
+                line.setLength(0);
+                line.append(rs.getDate(1)).append(',')
+                        .append(rs.getLong(2)).append(',')
+                        .append(rs.getString(3)).append(',')
+                        .append(rs.getLong(4)).append(',')
+                        .append(carTypeName(rs.getString(5))).append(',')
+                        .append(rs.getBigDecimal(6).toPlainString()).append('\n');
+                try {
+                    writer.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String carTypeName(String storedValue) {
+        if (storedValue == null || storedValue.isEmpty()) {
+            return "";
+        }
+        if (Character.isDigit(storedValue.charAt(0))) {
+            return CarType.values()[Integer.parseInt(storedValue)].name();
+        }
+        return storedValue;
+    }
+}
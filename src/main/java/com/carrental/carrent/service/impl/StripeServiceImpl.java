@@ -1,10 +1,12 @@
 package com.carrental.carrent.service.impl;
 
+import com.carrental.carrent.health.StripeHealthIndicator;
 import com.carrental.carrent.service.StripeService;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import java.math.BigDecimal;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,15 +14,29 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class StripeServiceImpl implements StripeService {
+    private final StripeHealthIndicator healthIndicator;
+
     @Value("${stripe.secret.key}")
     private String secretKey;
 
+    @Value("${stripe.api-base:}")
+    private String apiBase;
+
+    public StripeServiceImpl(StripeHealthIndicator healthIndicator) {
+        this.healthIndicator = healthIndicator;
+    }
+
     @PostConstruct
     public void init() {
         Stripe.apiKey = secretKey;
+        if (!apiBase.isBlank()) {
+            Stripe.overrideApiBase(apiBase);
+        }
     }
 
     @Override
+    @Timed(value = "stripe.requests", extraTags = {"operation", "checkout.session.create"},
+            histogram = true)
     public Session createCheckoutSession(BigDecimal amountToPay) {
         SessionCreateParams params = SessionCreateParams.builder()
                 .setMode(SessionCreateParams.Mode.PAYMENT)
@@ -49,8 +65,11 @@ public class StripeServiceImpl implements StripeService {
                 .build();
 
         try {
-            return Session.create(params);
+            Session session = Session.create(params);
+            healthIndicator.recordSuccess();
+            return session;
         } catch (StripeException e) {
+            healthIndicator.recordFailure(e);
             throw new RuntimeException("Stripe session creation failed", e);
         }
     }
@@ -4,6 +4,7 @@ import com.carrental.carrent.dto.user.UserRegistrationRequestDto;
 import com.carrental.carrent.dto.user.UserResponseDto;
 import com.carrental.carrent.dto.user.UserRoleUpdateDto;
 import com.carrental.carrent.dto.user.UserUpdateRequestDto;
+import com.carrental.carrent.event.UserChangedEvent;
 import com.carrental.carrent.exception.EntityNotFoundException;
 import com.carrental.carrent.exception.RegistrationException;
 import com.carrental.carrent.mapper.UserMapper;
@@ -11,12 +12,17 @@ import com.carrental.carrent.model.Role;
 import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.user.UserRepository;
 import com.carrental.carrent.security.AuthenticationService;
+import com.carrental.carrent.security.RegisteredEmailFilter;
 import com.carrental.carrent.service.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -25,21 +31,38 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationService authenticationService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Skips the existence query for emails the filter has never seen. The
+     * insert runs in its own transaction, so when the unique key rejects an
+     * email the filter did not know, the duplicate is still reported as a
+     * registration error rather than a failed commit.
+     */
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public UserResponseDto register(UserRegistrationRequestDto requestDto)
             throws RegistrationException {
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
-            throw new RegistrationException("User with this email: "
-                    + requestDto.getEmail()
-                    + " already exists");
+        String email = requestDto.getEmail();
+        if (registeredEmailFilter.mightBeRegistered(email)
+                && userRepository.existsByEmail(email)) {
+            throw alreadyRegistered(email);
         }
 
         User user = userMapper.toUserModel(requestDto);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setRole(Role.CUSTOMER);
-        userRepository.save(user);
-        System.out.println("Registered user: " + user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (userRepository.existsByEmail(email)) {
+                throw alreadyRegistered(email);
+            }
+            throw e;
+        }
+        registeredEmailFilter.add(email);
+        log.info("Registered user id={}", user.getId());
         return userMapper.toUserResponseDto(user);
     }
 
@@ -51,6 +74,8 @@ public class UserServiceImpl implements UserService {
                                 + userId));
         user.setRole(roleUpdateDto.getRole());
         userRepository.save(user);
+        eventPublisher.publishEvent(
+                new UserChangedEvent(user.getId(), user.getEmail(), user.getEmail()));
         return userMapper.toUserResponseDto(user);
     }
 
@@ -77,6 +102,7 @@ public class UserServiceImpl implements UserService {
         User currentUser = authenticationService.getAuthenticatedUser();
         User user = userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        String previousEmail = user.getEmail();
 
         userMapper.updateUserFromDto(requestDto, user);
 
@@ -85,6 +111,13 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        registeredEmailFilter.add(updatedUser.getEmail());
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), previousEmail,
+                updatedUser.getEmail()));
         return userMapper.toUserResponseDto(updatedUser);
     }
+
+    private static RegistrationException alreadyRegistered(String email) {
+        return new RegistrationException("User with this email: " + email + " already exists");
+    }
 }
@@ -0,0 +1,78 @@
+package com.carrental.carrent.service.overdue;
+
+import com.carrental.carrent.dto.rental.RentalDueDate;
+import com.carrental.carrent.event.RentalsOverdueEvent;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps every active rental in an {@link OverdueTimerWheel} keyed by the day
+ * after its return date. The wheel is loaded once at startup and kept current
+ * by the rental service, so the daily tick only touches rentals that actually
+ * become (or stay) overdue that day. A fired rental is re-armed for the next
+ * day; each tick publishes one {@link RentalsOverdueEvent} with all rentals
+ * fired that day, so they are fined with one load of rentals and cars. Every
+ * fired rental is re-armed before the event goes out, and a failure is
+ * logged, so it cannot drop rentals from the wheel.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OverdueRentalTracker {
+    private final RentalRepository rentalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile OverdueTimerWheel wheel = new OverdueTimerWheel(LocalDate.now());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadAndFire() {
+        reload();
+        fireOverdue();
+    }
+
+    public void reload() {
+        OverdueTimerWheel loaded = new OverdueTimerWheel(LocalDate.now());
+        for (RentalDueDate rental : rentalRepository.findActiveRentalDueDates()) {
+            loaded.schedule(rental.rentalId(), rental.returnDate().plusDays(1));
+        }
+        wheel = loaded;
+    }
+
+    public void track(Long rentalId, LocalDate returnDate) {
+        wheel.schedule(rentalId, returnDate.plusDays(1));
+    }
+
+    public void untrack(Long rentalId) {
+        wheel.cancel(rentalId);
+    }
+
+    /** The number of active rentals in the wheel. */
+    public int size() {
+        return wheel.size();
+    }
+
+    public int fireOverdue() {
+        LocalDate today = LocalDate.now();
+        OverdueTimerWheel current = wheel;
+        List<Long> overdue = current.advanceTo(today);
+        for (Long rentalId : overdue) {
+            current.schedule(rentalId, today.plusDays(1));
+        }
+        if (overdue.isEmpty()) {
+            return 0;
+        }
+        try {
+            eventPublisher.publishEvent(new RentalsOverdueEvent(List.copyOf(overdue), today));
+        } catch (RuntimeException e) {
+            log.warn("Overdue fines failed for {} rentals; the overdue fines job will retry them",
+                    overdue.size(), e);
+        }
+        return overdue.size();
+    }
+}
@@ -0,0 +1,135 @@
+package com.carrental.carrent.service.overdue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timer wheel with a resolution of one day. Level 0 holds the next
+ * 64 days, level 1 the next 64 blocks of 64 days and level 2 the next 64 blocks
+ * of 4096 days; entries further out sit in the last level-2 block and are
+ * re-placed when it is reached. Scheduling and cancelling are O(1); advancing
+ * by a day only touches the slots of that day.
+ */
+public final class OverdueTimerWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final long HORIZON = 1L << (BITS * LEVELS);
+
+    private final List<List<Set<Long>>> levels = new ArrayList<>(LEVELS);
+    private final Set<Long> due = new LinkedHashSet<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentDay;
+
+    public OverdueTimerWheel(LocalDate today) {
+        this.currentDay = today.toEpochDay();
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Long>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedules the rental to fire on {@code fireOn}, replacing any earlier
+     * schedule. Dates not after the current day fire on the next advance.
+     */
+    public synchronized void schedule(Long rentalId, LocalDate fireOn) {
+        cancel(rentalId);
+        Entry entry = new Entry(rentalId, fireOn.toEpochDay());
+        entries.put(rentalId, entry);
+        place(entry);
+    }
+
+    public synchronized void cancel(Long rentalId) {
+        Entry entry = entries.remove(rentalId);
+        if (entry != null) {
+            entry.slot.remove(rentalId);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the wheel forward to {@code today} and returns the rentals whose
+     * fire day has been reached, in firing order. Fired rentals are removed.
+     */
+    public synchronized List<Long> advanceTo(LocalDate today) {
+        List<Long> fired = new ArrayList<>();
+        drainDue(fired);
+        long target = today.toEpochDay();
+        while (currentDay < target) {
+            currentDay++;
+            tick(fired);
+        }
+        return fired;
+    }
+
+    private void tick(List<Long> fired) {
+        if ((currentDay & MASK) == 0) {
+            if (((currentDay >> BITS) & MASK) == 0) {
+                cascade(levels.get(2).get((int) ((currentDay >> (2 * BITS)) & MASK)));
+            }
+            cascade(levels.get(1).get((int) ((currentDay >> BITS) & MASK)));
+        }
+        cascade(levels.get(0).get((int) (currentDay & MASK)));
+        drainDue(fired);
+    }
+
+    private void cascade(Set<Long> slot) {
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(slot);
+        slot.clear();
+        for (Long id : ids) {
+            place(entries.get(id));
+        }
+    }
+
+    private void drainDue(List<Long> fired) {
+        for (Long id : due) {
+            entries.remove(id);
+            fired.add(id);
+        }
+        due.clear();
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.fireDay - currentDay;
+        Set<Long> slot;
+        if (delta <= 0) {
+            slot = due;
+        } else if (delta < SLOTS) {
+            slot = levels.get(0).get((int) (entry.fireDay & MASK));
+        } else if (delta < SLOTS * SLOTS) {
+            slot = levels.get(1).get((int) ((entry.fireDay >> BITS) & MASK));
+        } else {
+            long day = Math.min(entry.fireDay, currentDay + HORIZON - 1);
+            slot = levels.get(2).get((int) ((day >> (2 * BITS)) & MASK));
+        }
+        entry.slot = slot;
+        slot.add(entry.rentalId);
+    }
+
+    private static final class Entry {
+        private final Long rentalId;
+        private final long fireDay;
+        private Set<Long> slot;
+
+        private Entry(Long rentalId, long fireDay) {
+            this.rentalId = rentalId;
+            this.fireDay = fireDay;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.carrental.carrent.service.pricing;
+
+public record DiscountTier(int minDays, int discountBasisPoints) {
+    public DiscountTier {
+        if (minDays < 1) {
+            throw new IllegalArgumentException("Discount tier must start at one day or more");
+        }
+        if (discountBasisPoints < 0 || discountBasisPoints > PricingRules.BASIS_POINTS) {
+            throw new IllegalArgumentException("Discount must be between 0 and "
+                    + PricingRules.BASIS_POINTS + " basis points");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.carrental.carrent.service.pricing;
+
+import com.carrental.carrent.model.CarType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single place for rental price and fine calculation. Amounts are handled as
+ * long cents internally; {@link BigDecimal} is only used at the API boundary.
+ *
+ * <p>Rules are resolved from a {@link PricingRuleIndex} that is replaced as a
+ * whole when the {@code pricing_rules} table changes, so quoting never locks.
+ * A rental is priced with the rules in effect on its rental date, scaled by
+ * their utilization tier for the car type's utilization when the index was
+ * last built.
+ */
+@Component
+public class PricingEngine {
+    private static final int CENTS_SCALE = 2;
+
+    private final AtomicReference<PricingRuleIndex> index;
+
+    public PricingEngine(PricingRules defaultRules) {
+        this.index = new AtomicReference<>(PricingRuleIndex.empty(defaultRules));
+    }
+
+    public PricingRules defaultRules() {
+        return index.get().defaults();
+    }
+
+    public void replaceIndex(PricingRuleIndex newIndex) {
+        index.set(newIndex);
+    }
+
+    public PricingRules rulesFor(CarType carType, LocalDate date) {
+        return index.get().rulesFor(carType, date);
+    }
+
+    public BigDecimal rentalPrice(BigDecimal dailyFee, LocalDate rentalDate, LocalDate returnDate) {
+        return rentalPrice(null, dailyFee, rentalDate, returnDate);
+    }
+
+    public BigDecimal rentalPrice(CarType carType, BigDecimal dailyFee,
+                                  LocalDate rentalDate, LocalDate returnDate) {
+        return toAmount(rentalPriceCents(carType, toCents(dailyFee), rentalDate, returnDate));
+    }
+
+    public BigDecimal fine(BigDecimal dailyFee, long overdueDays) {
+        return toAmount(fineCents(toCents(dailyFee), overdueDays));
+    }
+
+    public BigDecimal fine(CarType carType, BigDecimal dailyFee,
+                           LocalDate dueDate, long overdueDays) {
+        return toAmount(fineCents(rulesFor(carType, dueDate), toCents(dailyFee), overdueDays));
+    }
+
+    public long rentalPriceCents(long dailyFeeCents, LocalDate rentalDate, LocalDate returnDate) {
+        return rentalPriceCents(rulesFor(null, rentalDate), dailyFeeCents, rentalDate, returnDate);
+    }
+
+    public long rentalPriceCents(CarType carType, long dailyFeeCents,
+                                 LocalDate rentalDate, LocalDate returnDate) {
+        PricingRuleIndex current = index.get();
+        return rentalPriceCents(current.rulesFor(carType, rentalDate), dailyFeeCents,
+                rentalDate, returnDate, current.utilizationFor(carType));
+    }
+
+    public long fineCents(long dailyFeeCents, long overdueDays) {
+        return fineCents(defaultRules(), dailyFeeCents, overdueDays);
+    }
+
+    public static long rentalPriceCents(PricingRules rules, long dailyFeeCents,
+                                        LocalDate rentalDate, LocalDate returnDate) {
+        long days = rentalDays(rentalDate, returnDate);
+        long price = applyRate(dailyFeeCents,
+                rules.weightedDays(rentalDate.getDayOfWeek(), days));
+        int discount = rules.discountFor(days);
+        if (discount == 0) {
+            return price;
+        }
+        return applyRate(price, PricingRules.BASIS_POINTS - discount);
+    }
+
+    public static long rentalPriceCents(PricingRules rules, long dailyFeeCents,
+                                        LocalDate rentalDate, LocalDate returnDate,
+                                        int utilizationBasisPoints) {
+        long price = rentalPriceCents(rules, dailyFeeCents, rentalDate, returnDate);
+        int rate = rules.utilizationRate(utilizationBasisPoints);
+        if (rate == PricingRules.BASIS_POINTS) {
+            return price;
+        }
+        return applyRate(price, rate);
+    }
+
+    public static long fineCents(PricingRules rules, long dailyFeeCents, long overdueDays) {
+        if (overdueDays <= 0) {
+            return 0;
+        }
+        return applyRate(Math.multiplyExact(dailyFeeCents, overdueDays), rules.fineRate());
+    }
+
+    public static long rentalDays(LocalDate rentalDate, LocalDate returnDate) {
+        return Math.max(1, returnDate.toEpochDay() - rentalDate.toEpochDay());
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    private static long applyRate(long cents, long basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long half = PricingRules.BASIS_POINTS / 2;
+        return scaled >= 0
+                ? (scaled + half) / PricingRules.BASIS_POINTS
+                : (scaled - half) / PricingRules.BASIS_POINTS;
+    }
+}
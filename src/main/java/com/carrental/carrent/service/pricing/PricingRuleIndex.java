@@ -0,0 +1,167 @@
+package com.carrental.carrent.service.pricing;
+
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.PricingRule;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable lookup of {@link PricingRules} by car type and date. Each car type
+ * owns a sorted array of non-overlapping date segments, so a lookup is a binary
+ * search with no locking and no database access.
+ *
+ * <p>Rules for a specific car type win over rules without a car type; among
+ * overlapping rules of the same kind, the one that starts later wins.
+ *
+ * <p>The index also carries each car type's fleet utilization at the time it
+ * was built, in basis points, for the utilization tiers of the rules.
+ */
+public final class PricingRuleIndex {
+    private static final Comparator<PricingRule> PRECEDENCE = Comparator
+            .comparing((PricingRule rule) -> rule.getCarType() != null)
+            .thenComparing(PricingRule::getValidFrom)
+            .thenComparing(rule -> rule.getId() == null ? 0L : rule.getId());
+
+    private final PricingRules defaults;
+    private final Map<CarType, Segment[]> segmentsByType;
+    private final Segment[] anyTypeSegments;
+    private final int[] utilizationByType;
+
+    private PricingRuleIndex(PricingRules defaults,
+                             Map<CarType, Segment[]> segmentsByType,
+                             Segment[] anyTypeSegments,
+                             int[] utilizationByType) {
+        this.defaults = defaults;
+        this.segmentsByType = segmentsByType;
+        this.anyTypeSegments = anyTypeSegments;
+        this.utilizationByType = utilizationByType;
+    }
+
+    public static PricingRuleIndex empty(PricingRules defaults) {
+        return build(defaults, List.of());
+    }
+
+    public static PricingRuleIndex build(PricingRules defaults, List<PricingRule> rules) {
+        return build(defaults, rules, Map.of());
+    }
+
+    public static PricingRuleIndex build(PricingRules defaults, List<PricingRule> rules,
+                                         Map<CarType, Integer> utilization) {
+        Map<PricingRule, PricingRules> compiled = new IdentityHashMap<>();
+        for (PricingRule rule : rules) {
+            compiled.put(rule, compile(defaults, rule));
+        }
+
+        Map<CarType, Segment[]> segmentsByType = new EnumMap<>(CarType.class);
+        for (CarType carType : CarType.values()) {
+            List<PricingRule> applicable = rules.stream()
+                    .filter(rule -> rule.getCarType() == null || rule.getCarType() == carType)
+                    .toList();
+            segmentsByType.put(carType, segments(applicable, compiled));
+        }
+        List<PricingRule> anyType = rules.stream()
+                .filter(rule -> rule.getCarType() == null)
+                .toList();
+        int[] utilizationByType = new int[CarType.values().length];
+        utilization.forEach((carType, basisPoints) ->
+                utilizationByType[carType.ordinal()] = basisPoints);
+        return new PricingRuleIndex(defaults, segmentsByType, segments(anyType, compiled),
+                utilizationByType);
+    }
+
+    public PricingRules rulesFor(CarType carType, LocalDate date) {
+        Segment[] segments = carType == null ? anyTypeSegments : segmentsByType.get(carType);
+        long day = date.toEpochDay();
+        int low = 0;
+        int high = segments.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Segment segment = segments[mid];
+            if (day < segment.start()) {
+                high = mid - 1;
+            } else if (day > segment.end()) {
+                low = mid + 1;
+            } else {
+                return segment.rules();
+            }
+        }
+        return defaults;
+    }
+
+    /** Utilization of the car type in basis points; zero for an unknown car type. */
+    public int utilizationFor(CarType carType) {
+        return carType == null ? 0 : utilizationByType[carType.ordinal()];
+    }
+
+    public PricingRules defaults() {
+        return defaults;
+    }
+
+    static PricingRules compile(PricingRules defaults, PricingRule rule) {
+        PricingRules.Builder builder = defaults.toBuilder();
+        int weekendRate = (int) ((long) rule.getRateBp() * rule.getWeekendRateBp()
+                / PricingRules.BASIS_POINTS);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+            builder.dayRate(day, weekend ? weekendRate : rule.getRateBp());
+        }
+        if (rule.getLongRentalMinDays() != null && rule.getLongRentalDiscountBp() != null) {
+            builder.discount(rule.getLongRentalMinDays(), rule.getLongRentalDiscountBp());
+        }
+        if (rule.getHighUtilizationBp() != null && rule.getHighUtilizationRateBp() != null) {
+            builder.utilizationRate(rule.getHighUtilizationBp(), rule.getHighUtilizationRateBp());
+        }
+        if (rule.getFineRateBp() != null) {
+            builder.fineRate(rule.getFineRateBp());
+        }
+        return builder.build();
+    }
+
+    private static Segment[] segments(List<PricingRule> rules,
+                                      Map<PricingRule, PricingRules> compiled) {
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (PricingRule rule : rules) {
+            boundaries.add(rule.getValidFrom().toEpochDay());
+            if (rule.getValidTo() != null) {
+                boundaries.add(rule.getValidTo().toEpochDay() + 1);
+            }
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        Long[] starts = boundaries.toArray(Long[]::new);
+        for (int i = 0; i < starts.length; i++) {
+            long start = starts[i];
+            long end = i + 1 < starts.length ? starts[i + 1] - 1 : Long.MAX_VALUE;
+            PricingRule winner = rules.stream()
+                    .filter(rule -> covers(rule, start))
+                    .max(PRECEDENCE)
+                    .orElse(null);
+            if (winner == null) {
+                continue;
+            }
+            PricingRules winnerRules = compiled.get(winner);
+            Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (last != null && last.rules() == winnerRules && last.end() == start - 1) {
+                segments.set(segments.size() - 1, new Segment(last.start(), end, winnerRules));
+            } else {
+                segments.add(new Segment(start, end, winnerRules));
+            }
+        }
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static boolean covers(PricingRule rule, long day) {
+        return rule.getValidFrom().toEpochDay() <= day
+                && (rule.getValidTo() == null || rule.getValidTo().toEpochDay() >= day);
+    }
+
+    private record Segment(long start, long end, PricingRules rules) {
+    }
+}
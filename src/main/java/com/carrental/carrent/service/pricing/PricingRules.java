@@ -0,0 +1,155 @@
+package com.carrental.carrent.service.pricing;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable rule table used by {@link PricingEngine}. All rates are expressed
+ * in basis points (10 000 = 100%), so pricing stays in integer arithmetic.
+ * Utilization tiers scale a rental price by the rate of the highest tier the
+ * car type's current utilization has reached.
+ */
+public final class PricingRules {
+    public static final int BASIS_POINTS = 10_000;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int DEFAULT_FINE_RATE = 15_000;
+
+    private final int[] dayOfWeekRates;
+    private final long[] rateFromMonday;
+    private final long weekRate;
+    private final DiscountTier[] discountTiers;
+    private final UtilizationTier[] utilizationTiers;
+    private final int fineRate;
+
+    private PricingRules(int[] dayOfWeekRates, List<DiscountTier> discountTiers,
+                         List<UtilizationTier> utilizationTiers, int fineRate) {
+        this.dayOfWeekRates = dayOfWeekRates.clone();
+        this.rateFromMonday = new long[DAYS_IN_WEEK * 2 + 1];
+        for (int i = 0; i < DAYS_IN_WEEK * 2; i++) {
+            rateFromMonday[i + 1] = rateFromMonday[i] + dayOfWeekRates[i % DAYS_IN_WEEK];
+        }
+        this.weekRate = rateFromMonday[DAYS_IN_WEEK];
+        this.discountTiers = discountTiers.stream()
+                .sorted(Comparator.comparingInt(DiscountTier::minDays).reversed())
+                .toArray(DiscountTier[]::new);
+        this.utilizationTiers = utilizationTiers.stream()
+                .sorted(Comparator.comparingInt(UtilizationTier::minUtilizationBasisPoints)
+                        .reversed())
+                .toArray(UtilizationTier[]::new);
+        this.fineRate = fineRate;
+    }
+
+    public static PricingRules standard() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        System.arraycopy(dayOfWeekRates, 0, builder.dayOfWeekRates, 0, DAYS_IN_WEEK);
+        builder.discountTiers.addAll(Arrays.asList(discountTiers));
+        builder.utilizationTiers.addAll(Arrays.asList(utilizationTiers));
+        builder.fineRate = fineRate;
+        return builder;
+    }
+
+    public int dayRate(DayOfWeek day) {
+        return dayOfWeekRates[day.ordinal()];
+    }
+
+    public List<DiscountTier> discountTiers() {
+        return List.of(discountTiers);
+    }
+
+    public List<UtilizationTier> utilizationTiers() {
+        return List.of(utilizationTiers);
+    }
+
+    public int fineRate() {
+        return fineRate;
+    }
+
+    /**
+     * Sum of daily rates for {@code days} consecutive days starting on {@code firstDay},
+     * computed from whole weeks and a prefix-sum lookup instead of walking each day.
+     */
+    long weightedDays(DayOfWeek firstDay, long days) {
+        int start = firstDay.ordinal();
+        int remainder = (int) (days % DAYS_IN_WEEK);
+        return Math.addExact(Math.multiplyExact(days / DAYS_IN_WEEK, weekRate),
+                rateFromMonday[start + remainder] - rateFromMonday[start]);
+    }
+
+    int discountFor(long days) {
+        for (DiscountTier tier : discountTiers) {
+            if (days >= tier.minDays()) {
+                return tier.discountBasisPoints();
+            }
+        }
+        return 0;
+    }
+
+    int utilizationRate(int utilizationBasisPoints) {
+        for (UtilizationTier tier : utilizationTiers) {
+            if (utilizationBasisPoints >= tier.minUtilizationBasisPoints()) {
+                return tier.rateBasisPoints();
+            }
+        }
+        return BASIS_POINTS;
+    }
+
+    public static final class Builder {
+        private final int[] dayOfWeekRates = new int[DAYS_IN_WEEK];
+        private final List<DiscountTier> discountTiers = new ArrayList<>();
+        private final List<UtilizationTier> utilizationTiers = new ArrayList<>();
+        private int fineRate = DEFAULT_FINE_RATE;
+
+        private Builder() {
+            Arrays.fill(dayOfWeekRates, BASIS_POINTS);
+        }
+
+        public Builder dayRate(DayOfWeek day, int basisPoints) {
+            if (basisPoints < 0) {
+                throw new IllegalArgumentException("Day rate cannot be negative");
+            }
+            dayOfWeekRates[day.ordinal()] = basisPoints;
+            return this;
+        }
+
+        public Builder weekendRate(int basisPoints) {
+            return dayRate(DayOfWeek.SATURDAY, basisPoints)
+                    .dayRate(DayOfWeek.SUNDAY, basisPoints);
+        }
+
+        public Builder discount(int minDays, int discountBasisPoints) {
+            discountTiers.removeIf(tier -> tier.minDays() == minDays);
+            discountTiers.add(new DiscountTier(minDays, discountBasisPoints));
+            return this;
+        }
+
+        public Builder utilizationRate(int minUtilizationBasisPoints, int rateBasisPoints) {
+            utilizationTiers.removeIf(
+                    tier -> tier.minUtilizationBasisPoints() == minUtilizationBasisPoints);
+            utilizationTiers.add(new UtilizationTier(minUtilizationBasisPoints, rateBasisPoints));
+            return this;
+        }
+
+        public Builder fineRate(int basisPoints) {
+            if (basisPoints < 0) {
+                throw new IllegalArgumentException("Fine rate cannot be negative");
+            }
+            this.fineRate = basisPoints;
+            return this;
+        }
+
+        public PricingRules build() {
+            return new PricingRules(dayOfWeekRates, discountTiers, utilizationTiers, fineRate);
+        }
+    }
+}
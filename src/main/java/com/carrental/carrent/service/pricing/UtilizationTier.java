@@ -0,0 +1,14 @@
+package com.carrental.carrent.service.pricing;
+
+public record UtilizationTier(int minUtilizationBasisPoints, int rateBasisPoints) {
+    public UtilizationTier {
+        if (minUtilizationBasisPoints < 0
+                || minUtilizationBasisPoints > PricingRules.BASIS_POINTS) {
+            throw new IllegalArgumentException("Utilization must be between 0 and "
+                    + PricingRules.BASIS_POINTS + " basis points");
+        }
+        if (rateBasisPoints < 0) {
+            throw new IllegalArgumentException("Utilization rate cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.carrental.carrent.service.scheduling;
+
+import com.carrental.carrent.config.SchedulingConfig;
+import com.carrental.carrent.repository.scheduling.JobLeaseRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database-backed lease per job name. A node may run a clustered job only while
+ * it holds the lease. While the job runs, a heartbeat keeps pushing the lease
+ * end at least {@code jobs.lease.ttl-ms} ahead; once heartbeats stop, for
+ * example because the node died, the lease expires and any node can take it.
+ * Heartbeats run on their own scheduler, so busy job threads cannot delay them.
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TaskScheduler taskScheduler;
+    private final String owner;
+    private final Duration heartbeatInterval;
+    private final Duration ttl;
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository,
+                           @Qualifier(SchedulingConfig.LEASE_HEARTBEAT_SCHEDULER)
+                           TaskScheduler taskScheduler,
+                           @Value("${jobs.instance-id:}") String instanceId,
+                           @Value("${jobs.lease.heartbeat-interval-ms:30000}")
+                           long heartbeatIntervalMs,
+                           @Value("${jobs.lease.ttl-ms:90000}") long ttlMs) {
+        if (ttlMs <= heartbeatIntervalMs) {
+            throw new IllegalArgumentException(
+                    "Lease TTL must be longer than the heartbeat interval");
+        }
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.taskScheduler = taskScheduler;
+        this.owner = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public boolean tryAcquire(String jobName, Duration holdFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(holdFor.compareTo(ttl) > 0 ? holdFor : ttl);
+        if (jobLeaseRepository.takeOver(jobName, owner, now, until) == 1) {
+            return true;
+        }
+        if (jobLeaseRepository.existsById(jobName)) {
+            return false;
+        }
+        try {
+            return jobLeaseRepository.insert(jobName, owner, now, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts extending the lease of a running job; the returned handle stops
+     * the heartbeat and must be called when the run ends.
+     */
+    public Runnable startHeartbeat(String jobName) {
+        ScheduledFuture<?> future = taskScheduler.scheduleAtFixedRate(
+                () -> heartbeat(jobName), heartbeatInterval);
+        return () -> future.cancel(false);
+    }
+
+    public boolean heartbeat(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean held = jobLeaseRepository.heartbeat(jobName, owner, now, now.plus(ttl)) == 1;
+        if (!held) {
+            log.warn("Lease for job {} was taken over by another node", jobName);
+        }
+        return held;
+    }
+
+    public void release(String jobName) {
+        jobLeaseRepository.release(jobName, owner, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.carrental.carrent.service.scheduling;
+
+import com.carrental.carrent.dto.job.JobStatsDto;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs scheduled job bodies with an in-process overlap guard and, for clustered
+ * jobs, a database lease so that only one node runs the job per interval.
+ *
+ * <p>The lease is kept after a successful run for 90% of the interval, which
+ * stops the other nodes from repeating the work on their own triggers; it is
+ * released right away when the run fails so another node can retry.
+ *
+ * <p>Sharded jobs use one lease per shard. A node claims shards one at a time,
+ * starting at an offset derived from its owner id, so replicas that trigger
+ * while a large run is in progress pick up the shards that are still free.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobRunner {
+    private final JobLeaseManager jobLeaseManager;
+    private final Map<String, JobStats> stats = new ConcurrentHashMap<>();
+
+    public boolean runClustered(String jobName, Duration interval, Runnable task) {
+        return run(jobName, interval, true, task);
+    }
+
+    public boolean runLocal(String jobName, Duration interval, Runnable task) {
+        return run(jobName, interval, false, task);
+    }
+
+    public int runSharded(String jobName, Duration interval, int shards,
+                          IntConsumer shardTask) {
+        if (shards <= 1) {
+            return runClustered(jobName, interval, () -> shardTask.accept(0)) ? 1 : 0;
+        }
+        int offset = Math.floorMod(jobLeaseManager.owner().hashCode(), shards);
+        int ran = 0;
+        for (int i = 0; i < shards; i++) {
+            int shard = (offset + i) % shards;
+            if (runClustered(jobName + "#" + shard, interval, () -> shardTask.accept(shard))) {
+                ran++;
+            }
+        }
+        return ran;
+    }
+
+    public List<JobStatsDto> getStats() {
+        return stats.values().stream()
+                .map(JobStats::toDto)
+                .sorted(Comparator.comparing(JobStatsDto::name))
+                .toList();
+    }
+
+    private boolean run(String jobName, Duration interval, boolean clustered, Runnable task) {
+        JobStats job = stats.computeIfAbsent(jobName, JobStats::new);
+        if (!job.tryStart(Instant.now(), interval)) {
+            return false;
+        }
+        try {
+            if (clustered && !jobLeaseManager.tryAcquire(jobName, leaseFor(interval))) {
+                job.skippedByLease();
+                return false;
+            }
+            job.started(Instant.now());
+            long startedNanos = System.nanoTime();
+            Runnable stopHeartbeat = clustered ? jobLeaseManager.startHeartbeat(jobName) : null;
+            boolean failed = true;
+            try {
+                task.run();
+                failed = false;
+            } finally {
+                if (stopHeartbeat != null) {
+                    stopHeartbeat.run();
+                }
+                job.completed(Duration.ofNanos(System.nanoTime() - startedNanos).toMillis(),
+                        failed);
+                if (failed && clustered) {
+                    jobLeaseManager.release(jobName);
+                }
+            }
+            return true;
+        } finally {
+            job.finish();
+        }
+    }
+
+    private static Duration leaseFor(Duration interval) {
+        return interval.minus(interval.dividedBy(10));
+    }
+}
@@ -0,0 +1,70 @@
+package com.carrental.carrent.service.scheduling;
+
+import com.carrental.carrent.dto.job.JobStatsDto;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and timings of one job on this node. Lag is how late a trigger fired
+ * compared with the previous trigger plus the job interval.
+ */
+final class JobStats {
+    private final String name;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong skippedOverlap = new AtomicLong();
+    private final AtomicLong skippedLease = new AtomicLong();
+    private final AtomicLong maxDurationMs = new AtomicLong();
+    private volatile Instant lastTriggeredAt;
+    private volatile Instant lastStartedAt;
+    private volatile long lastDurationMs;
+    private volatile long lastLagMs;
+
+    JobStats(String name) {
+        this.name = name;
+    }
+
+    boolean tryStart(Instant now, Duration interval) {
+        Instant previous = lastTriggeredAt;
+        lastTriggeredAt = now;
+        if (previous != null) {
+            long lag = Duration.between(previous.plus(interval), now).toMillis();
+            lastLagMs = Math.max(0, lag);
+        }
+        if (!running.compareAndSet(false, true)) {
+            skippedOverlap.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void skippedByLease() {
+        skippedLease.incrementAndGet();
+    }
+
+    void started(Instant now) {
+        lastStartedAt = now;
+    }
+
+    void completed(long durationMs, boolean failed) {
+        runs.incrementAndGet();
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        lastDurationMs = durationMs;
+        maxDurationMs.accumulateAndGet(durationMs, Math::max);
+    }
+
+    void finish() {
+        running.set(false);
+    }
+
+    JobStatsDto toDto() {
+        return new JobStatsDto(name, running.get(), runs.get(), failures.get(),
+                skippedOverlap.get(), skippedLease.get(), lastStartedAt,
+                lastDurationMs, maxDurationMs.get(), lastLagMs);
+    }
+}
@@ -0,0 +1,92 @@
+package com.carrental.carrent.service.scheduling;
+
+import com.carrental.carrent.config.SchedulingConfig;
+import com.carrental.carrent.service.FleetAnalyticsService;
+import com.carrental.carrent.service.PaymentService;
+import com.carrental.carrent.service.PricingRuleService;
+import com.carrental.carrent.service.overdue.OverdueRentalTracker;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Triggers for the periodic business jobs. Each trigger goes through
+ * {@link JobRunner}; the job bodies live in their services. Clustered jobs
+ * run on their own scheduler, local jobs on the primary one.
+ */
+@Component
+public class ScheduledJobs {
+    public static final String PAYMENT_EXPIRY = "payment-expiry";
+    public static final String OVERDUE_FINES = "overdue-fines";
+    public static final String OVERDUE_WHEEL = "overdue-wheel";
+    public static final String FLEET_RECONCILE = "fleet-reconcile";
+    public static final String PRICING_RULES_RELOAD = "pricing-rules-reload";
+
+    private final JobRunner jobRunner;
+    private final PaymentService paymentService;
+    private final FleetAnalyticsService fleetAnalyticsService;
+    private final PricingRuleService pricingRuleService;
+    private final OverdueRentalTracker overdueRentalTracker;
+    private final Duration paymentExpiryInterval;
+    private final Duration overdueFinesInterval;
+    private final Duration pricingRulesRefreshInterval;
+    private final int overdueFinesShards;
+
+    public ScheduledJobs(JobRunner jobRunner,
+                         PaymentService paymentService,
+                         FleetAnalyticsService fleetAnalyticsService,
+                         PricingRuleService pricingRuleService,
+                         OverdueRentalTracker overdueRentalTracker,
+                         @Value("${jobs.payment-expiry.interval-ms:300000}")
+                         long paymentExpiryIntervalMs,
+                         @Value("${jobs.overdue-fines.interval-ms:21600000}")
+                         long overdueFinesIntervalMs,
+                         @Value("${pricing.rules.refresh-interval-ms:60000}")
+                         long pricingRulesRefreshIntervalMs,
+                         @Value("${jobs.overdue-fines.shards:1}") int overdueFinesShards) {
+        this.jobRunner = jobRunner;
+        this.paymentService = paymentService;
+        this.fleetAnalyticsService = fleetAnalyticsService;
+        this.pricingRuleService = pricingRuleService;
+        this.overdueRentalTracker = overdueRentalTracker;
+        this.paymentExpiryInterval = Duration.ofMillis(paymentExpiryIntervalMs);
+        this.overdueFinesInterval = Duration.ofMillis(overdueFinesIntervalMs);
+        this.pricingRulesRefreshInterval = Duration.ofMillis(pricingRulesRefreshIntervalMs);
+        this.overdueFinesShards = overdueFinesShards;
+    }
+
+    @Scheduled(fixedRateString = "${jobs.payment-expiry.interval-ms:300000}",
+            scheduler = SchedulingConfig.CLUSTERED_JOB_SCHEDULER)
+    public void expirePayments() {
+        jobRunner.runClustered(PAYMENT_EXPIRY, paymentExpiryInterval,
+                paymentService::checkExpiredPayments);
+    }
+
+    @Scheduled(cron = "${jobs.overdue-wheel.cron:0 0 0 * * *}")
+    public void fireOverdueRentals() {
+        jobRunner.runLocal(OVERDUE_WHEEL, Duration.ofDays(1), overdueRentalTracker::fireOverdue);
+    }
+
+    @Scheduled(fixedRateString = "${jobs.overdue-fines.interval-ms:21600000}",
+            initialDelayString = "${jobs.overdue-fines.interval-ms:21600000}",
+            scheduler = SchedulingConfig.CLUSTERED_JOB_SCHEDULER)
+    public void applyOverdueFines() {
+        jobRunner.runSharded(OVERDUE_FINES, overdueFinesInterval, overdueFinesShards,
+                shard -> paymentService.checkOverdueRentals(shard, overdueFinesShards));
+    }
+
+    @Scheduled(cron = "${analytics.fleet.reconcile-cron:0 5 0 * * *}",
+            scheduler = SchedulingConfig.CLUSTERED_JOB_SCHEDULER)
+    public void reconcileFleetStats() {
+        jobRunner.runClustered(FLEET_RECONCILE, Duration.ofDays(1),
+                fleetAnalyticsService::reconcileRecentDays);
+    }
+
+    @Scheduled(fixedDelayString = "${pricing.rules.refresh-interval-ms:60000}",
+            initialDelayString = "${pricing.rules.refresh-interval-ms:60000}")
+    public void reloadPricingRules() {
+        jobRunner.runLocal(PRICING_RULES_RELOAD, pricingRulesRefreshInterval,
+                pricingRuleService::reloadIndex);
+    }
+}
@@ -3,15 +3,13 @@ package com.carrental.carrent.service.telegram;
 import static org.telegram.abilitybots.api.objects.Locality.USER;
 import static org.telegram.abilitybots.api.objects.Privacy.PUBLIC;
 
-import com.carrental.carrent.dto.payment.PaymentDto;
-import com.carrental.carrent.dto.rental.RentalResponseDto;
-import com.carrental.carrent.dto.user.UserResponseDto;
+import com.carrental.carrent.dto.payment.PendingPaymentSummary;
+import com.carrental.carrent.dto.rental.ActiveRentalSummary;
 import com.carrental.carrent.mapper.CarMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.PaymentService;
 import com.carrental.carrent.service.RentalService;
-import com.carrental.carrent.service.UserService;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -23,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.telegram.abilitybots.api.bot.AbilityBot;
 import org.telegram.abilitybots.api.objects.Ability;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
 
 @Component
 @ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
@@ -30,7 +29,6 @@ public class CarRentalTelegramBot extends AbilityBot {
 
     private final CarService carService;
     private final RentalService rentalService;
-    private final UserService userService;
     @Lazy
     private final PaymentService paymentService;
     private final CarMapper carMapper;
@@ -38,19 +36,24 @@ public class CarRentalTelegramBot extends AbilityBot {
     public CarRentalTelegramBot(
             @Value("${telegram.bot.token}") String botToken,
             @Value("${telegram.bot.username}") String botUsername,
+            @Value("${telegram.bot.api-url:https://api.telegram.org/bot}") String apiUrl,
             CarService carService,
             RentalService rentalService,
-            UserService userService,
             PaymentService paymentService,
             CarMapper carMapper) {
-        super(botToken, botUsername);
+        super(botToken, botUsername, botOptions(apiUrl));
         this.carService = carService;
         this.rentalService = rentalService;
-        this.userService = userService;
         this.paymentService = paymentService;
         this.carMapper = carMapper;
     }
 
+    private static DefaultBotOptions botOptions(String apiUrl) {
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl(apiUrl);
+        return options;
+    }
+
     public Ability start() {
         return Ability.builder()
                 .name("start")
@@ -133,7 +136,8 @@ public class CarRentalTelegramBot extends AbilityBot {
                 .privacy(PUBLIC)
                 .action(ctx -> {
                     try {
-                        List<RentalResponseDto> activeRentals = rentalService.getAllRentals();
+                        List<ActiveRentalSummary> activeRentals =
+                                rentalService.getActiveRentalSummaries();
                         String activeRentalsInfo = formatRentalsInfo(activeRentals);
                         silent.send(activeRentalsInfo, ctx.chatId());
                     } catch (Exception e) {
@@ -151,7 +155,8 @@ public class CarRentalTelegramBot extends AbilityBot {
                 .privacy(PUBLIC)
                 .action(ctx -> {
                     try {
-                        List<PaymentDto> pendingPayments = paymentService.getAllActivePayments();
+                        List<PendingPaymentSummary> pendingPayments =
+                                paymentService.getPendingPaymentSummaries();
                         String pendingPaymentsInfo = formatPaymentsInfo(pendingPayments);
                         silent.send(pendingPaymentsInfo, ctx.chatId());
                     } catch (Exception e) {
@@ -180,7 +185,7 @@ public class CarRentalTelegramBot extends AbilityBot {
         return sb.toString();
     }
 
-    private String formatRentalsInfo(List<RentalResponseDto> rentals) {
+    private String formatRentalsInfo(List<ActiveRentalSummary> rentals) {
         if (rentals.isEmpty()) {
             return "No " + "Active Rentals".toLowerCase();
         }
@@ -190,53 +195,49 @@ public class CarRentalTelegramBot extends AbilityBot {
                 
                 """);
         for (int i = 0; i < rentals.size(); i++) {
-            RentalResponseDto rental = rentals.get(i);
-            try {
-                Car car = carMapper.toEntity(carService.findById(rental.getCarId()));
-                UserResponseDto user = userService.findById(1L);
-
-                sb.append(String.format("%d. %s %s - %s %s\n",
-                        i + 1, user.getFirstName(), user.getLastName(),
-                        car.getBrand(), car.getModel()));
-                sb.append(String.format("   Period: %s - %s\n",
-                        rental.getRentalDate(), rental.getReturnDate()));
-
-                if (rental.getReturnDate().isBefore(LocalDate.now())) {
-                    long daysOverdue = ChronoUnit.DAYS.between(
-                            rental.getReturnDate(), LocalDate.now());
-                    sb.append(String.format("   ⚠️ Overdue by: %d days\n", daysOverdue));
-                }
-                sb.append("\n");
-            } catch (Exception e) {
+            ActiveRentalSummary rental = rentals.get(i);
+            if (rental.firstName() == null || rental.brand() == null) {
                 sb.append(String.format("%d. Rental ID: %d (Error loading details)\n\n",
-                        i + 1, rental.getId()));
+                        i + 1, rental.rentalId()));
+                continue;
+            }
+
+            sb.append(String.format("%d. %s %s - %s %s\n",
+                    i + 1, rental.firstName(), rental.lastName(),
+                    rental.brand(), rental.model()));
+            sb.append(String.format("   Period: %s - %s\n",
+                    rental.rentalDate(), rental.returnDate()));
+
+            if (rental.returnDate().isBefore(LocalDate.now())) {
+                long daysOverdue = ChronoUnit.DAYS.between(
+                        rental.returnDate(), LocalDate.now());
+                sb.append(String.format("   ⚠️ Overdue by: %d days\n", daysOverdue));
             }
+            sb.append("\n");
         }
         sb.append(String.format("Total: %d rentals", rentals.size()));
         return sb.toString();
     }
 
-    private String formatPaymentsInfo(List<PaymentDto> payments) {
+    private String formatPaymentsInfo(List<PendingPaymentSummary> payments) {
         if (payments.isEmpty()) {
             return "No pending payments";
         }
 
         StringBuilder sb = new StringBuilder("💰 Pending Payments:\n\n");
         for (int i = 0; i < payments.size(); i++) {
-            PaymentDto payment = payments.get(i);
-            try {
-                List<RentalResponseDto> rental = rentalService.getAllRentals();
-                UserResponseDto user = userService.findById(1L);
-
-                sb.append(String.format("%d. %s %s\n",
-                        i + 1, user.getFirstName(), user.getLastName()));
-                sb.append(String.format("   Amount: $%.2f\n", payment.getAmountToPay()));
-                sb.append(String.format("   Type: %s | Rental: #%d\n\n",
-                        payment.getPaymentType(), payment.getRentalId()));
-            } catch (Exception e) {
+            PendingPaymentSummary payment = payments.get(i);
+            if (payment.firstName() == null) {
                 sb.append(String.format("%d. Payment ID: %d (Error loading details)\n\n",
-                        i + 1, payment.getId()));
+                        i + 1, payment.paymentId()));
+                continue;
             }
+
+            sb.append(String.format("%d. %s %s\n",
+                    i + 1, payment.firstName(), payment.lastName()));
+            sb.append(String.format("   Amount: $%.2f\n", payment.amountToPay()));
+            sb.append(String.format("   Type: %s | Rental: #%d\n\n",
+                    payment.paymentType(), payment.rentalId()));
         }
         sb.append(String.format("Total: %d payments", payments.size()));
         return sb.toString();
@@ -0,0 +1,50 @@
+package com.carrental.carrent.service.telegram;
+
+import com.carrental.carrent.config.EventConfig;
+import com.carrental.carrent.dto.rental.RentalDetails;
+import com.carrental.carrent.event.FineAppliedEvent;
+import com.carrental.carrent.mapper.CarMapper;
+import com.carrental.carrent.mapper.RentalMapper;
+import com.carrental.carrent.mapper.UserMapper;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends the overdue alert for a rental once its fine for the new overdue days
+ * has been committed. Overdue days are detected by the overdue timer wheel,
+ * so each rental is reported at most once per day across all nodes. The
+ * rental, its customer and its car are loaded with a single join.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueAlertListener {
+
+    private final TelegramNotificationService telegramNotificationService;
+    private final RentalRepository rentalRepository;
+    private final RentalMapper rentalMapper;
+    private final CarMapper carMapper;
+    private final UserMapper userMapper;
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFineApplied(FineAppliedEvent event) {
+        try {
+            RentalDetails details = rentalRepository.findDetailsById(event.rentalId())
+                    .orElseThrow(() -> new RuntimeException("Rental not found"));
+
+            telegramNotificationService.sendOverdueRentalNotification(
+                    rentalMapper.toResponseDto(details.rental()),
+                    userMapper.toUserResponseDto(details.user()),
+                    carMapper.toDto(details.car()));
+        } catch (Exception e) {
+            log.warn("Overdue notification failed for rental id={}", event.rentalId(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.carrental.carrent.service.telegram;
+
+import com.carrental.carrent.config.EventConfig;
+import com.carrental.carrent.dto.rental.RentalDto;
+import com.carrental.carrent.event.CarAddedEvent;
+import com.carrental.carrent.event.CarsImportedEvent;
+import com.carrental.carrent.event.PaymentPaidEvent;
+import com.carrental.carrent.event.RentalCreatedEvent;
+import com.carrental.carrent.mapper.RentalMapper;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.service.CarService;
+import com.carrental.carrent.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends admin notifications for committed domain events, off the request thread.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
+public class TelegramEventListener {
+
+    private final TelegramNotificationService telegramNotificationService;
+    private final RentalRepository rentalRepository;
+    private final RentalMapper rentalMapper;
+    private final UserService userService;
+    private final CarService carService;
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalCreated(RentalCreatedEvent event) {
+        try {
+            RentalDto rental = rentalRepository.findById(event.rentalId())
+                    .map(rentalMapper::toDto)
+                    .orElseThrow(() -> new RuntimeException("Rental not found"));
+            telegramNotificationService.sendNewRentalNotification(rental,
+                    userService.findById(event.userId()),
+                    carService.findById(event.carId()));
+        } catch (Exception e) {
+            log.warn("Rental notification failed for rental id={}", event.rentalId(), e);
+        }
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarAdded(CarAddedEvent event) {
+        try {
+            telegramNotificationService.sendNewCarNotification(
+                    carService.findById(event.carId()));
+        } catch (Exception e) {
+            log.warn("Car notification failed for car id={}", event.carId(), e);
+        }
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarsImported(CarsImportedEvent event) {
+        telegramNotificationService.sendBulkCarImportNotification(event.result());
+    }
+
+    @Async(EventConfig.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentPaid(PaymentPaidEvent event) {
+        telegramNotificationService.sendSuccessfulPaymentNotification(event.sessionId());
+    }
+}
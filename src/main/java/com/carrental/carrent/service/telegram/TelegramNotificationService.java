@@ -1,21 +1,29 @@
 package com.carrental.carrent.service.telegram;
 
+import com.carrental.carrent.config.logging.LogSampler;
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarImportResultDto;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.user.UserResponseDto;
+import com.carrental.carrent.health.TelegramHealthIndicator;
 import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.UserService;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
-import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @ConditionalOnProperty(value = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
@@ -23,6 +31,10 @@ public class TelegramNotificationService {
     private final CarRentalTelegramBot telegramBot;
     private final UserService userService;
     private final CarService carService;
+    private final PricingEngine pricingEngine;
+    private final MeterRegistry meterRegistry;
+    private final TelegramHealthIndicator healthIndicator;
+    private final LogSampler failureSampler = new LogSampler(Duration.ofMinutes(1));
 
     @Value("${telegram.bot.admin-chat-id:}")
     private String adminChatId;
@@ -76,6 +88,20 @@ public class TelegramNotificationService {
         sendToAdmin(message);
     }
 
+    public void sendBulkCarImportNotification(CarImportResultDto result) {
+        String message = String.format(
+                """
+                        🚚 BULK CAR IMPORT
+                        Received: %d
+                        Imported: %d
+                        Rejected: %d""",
+                result.received(),
+                result.imported(),
+                result.rejected()
+        );
+        sendToAdmin(message);
+    }
+
     public void sendOverdueRentalNotification(RentalResponseDto rental,
                                               UserResponseDto user,
                                               CarDto car) {
@@ -126,48 +152,58 @@ public class TelegramNotificationService {
 
             sendToAdmin(message);
         } catch (Exception e) {
-            System.err.println("Error sending fine notification: " + e.getMessage());
+            log.warn("Fine notification failed for rental id={}", rental.getId(), e);
         }
     }
 
     private void sendToAdmin(String message) {
         if (adminChatId == null || adminChatId.trim().isEmpty()) {
-            System.err.println("❌ Telegram chat ID is not configured or empty");
+            long suppressed = failureSampler.sample();
+            if (suppressed >= 0) {
+                log.warn("Telegram admin chat id is not configured ({} similar suppressed)",
+                        suppressed);
+            }
             return;
         }
 
         String trimmedChatId = adminChatId.trim();
-        if (trimmedChatId.isEmpty()) {
-            System.err.println("❌ Telegram chat ID is empty after trimming");
-            return;
-        }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             SendMessage sendMessage = new SendMessage();
             sendMessage.setChatId(trimmedChatId);
             sendMessage.setText(message);
             telegramBot.execute(sendMessage);
-
-            System.out.println("✅ Telegram notification sent: " + message);
-        } catch (TelegramApiException e) {
-            System.err.println("❌ Error sending Telegram message: " + e.getMessage());
-            System.err.println("Admin Chat ID: " + trimmedChatId);
-            System.err.println("Message: " + message);
+            sample.stop(sendTimer("success"));
+            healthIndicator.recordSuccess();
+            log.debug("Telegram notification sent to chat {}", trimmedChatId);
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error: " + e.getMessage());
+            sample.stop(sendTimer("failure"));
+            healthIndicator.recordFailure(e);
+            long suppressed = failureSampler.sample();
+            if (suppressed >= 0) {
+                log.warn("Telegram notification to chat {} failed ({} similar suppressed)",
+                        trimmedChatId, suppressed, e);
+            }
         }
     }
 
+    private Timer sendTimer(String outcome) {
+        return Timer.builder("telegram.send")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private BigDecimal calculateRentalPrice(RentalDto rental, CarDto car) {
-        long days = ChronoUnit.DAYS.between(rental.getRentalDate(), rental.getReturnDate());
-        return car.getDailyFee().multiply(BigDecimal.valueOf(Math.max(1, days)));
+        return pricingEngine.rentalPrice(car.getCarType(), car.getDailyFee(),
+                rental.getRentalDate(), rental.getReturnDate());
     }
 
     private BigDecimal calculatePotentialFine(RentalResponseDto rental,
                                               CarDto car,
                                               long daysOverdue) {
-        BigDecimal dailyFee = car.getDailyFee();
-        BigDecimal fineMultiplier = BigDecimal.valueOf(1.5); // 50% penalty
-        return dailyFee.multiply(BigDecimal.valueOf(daysOverdue)).multiply(fineMultiplier);
+        return pricingEngine.fine(car.getCarType(), car.getDailyFee(),
+                rental.getReturnDate(), daysOverdue);
     }
 }
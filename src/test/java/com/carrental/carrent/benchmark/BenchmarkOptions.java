@@ -0,0 +1,28 @@
+package com.carrental.carrent.benchmark;
+
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Options shared by the benchmark {@code main} methods. Results are written as
+ * JMH JSON to {@code target/jmh/<benchmark>.json}, or to the directory given
+ * by {@code -Dbenchmark.results.dir}, so runs can be diffed and charted.
+ */
+final class BenchmarkOptions {
+    private static final String RESULTS_DIR = "benchmark.results.dir";
+
+    private BenchmarkOptions() {
+    }
+
+    static ChainedOptionsBuilder forBenchmark(Class<?> benchmark) {
+        Path results = Path.of(System.getProperty(RESULTS_DIR, "target/jmh"));
+        results.toFile().mkdirs();
+        return new OptionsBuilder()
+                .include(Pattern.quote(benchmark.getName() + "."))
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.resolve(benchmark.getSimpleName() + ".json").toString());
+    }
+}
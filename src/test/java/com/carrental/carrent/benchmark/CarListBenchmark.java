@@ -0,0 +1,120 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.mapper.CarMapper;
+import com.carrental.carrent.mapper.impl.CarMapperImpl;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.CarType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the old list path (managed entities copied through MapStruct) with
+ * read-only entities and with a JPQL constructor-expression projection. Run
+ * {@link #main} to get {@code gc.alloc.rate.norm}, the bytes allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarListBenchmark {
+    private static final int CARS = 1_000;
+    private static final String ENTITY_QUERY = "FROM Car c ORDER BY c.id";
+    private static final String DTO_QUERY = "SELECT new com.carrental.carrent.dto.car.CarDto("
+            + "c.id, c.model, c.brand, c.carType, c.inventory, c.dailyFee) "
+            + "FROM Car c ORDER BY c.id";
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private CarMapper carMapper;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Car.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:car-list-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        carMapper = new CarMapperImpl();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < CARS; i++) {
+                Car car = new Car();
+                car.setBrand("Brand " + i % 20);
+                car.setModel("Model " + i);
+                car.setCarType(CarType.values()[i % CarType.values().length]);
+                car.setInventory(1 + i % 5);
+                car.setDailyFee(BigDecimal.valueOf(30 + i % 70));
+                session.persist(car);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<CarDto> managedEntitiesThroughMapper() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(ENTITY_QUERY, Car.class)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(carMapper::toDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<CarDto> readOnlyEntitiesThroughMapper() {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            return session.createSelectionQuery(ENTITY_QUERY, Car.class)
+                    .setMaxResults(pageSize)
+                    .getResultList()
+                    .stream()
+                    .map(carMapper::toDto)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<CarDto> dtoProjection() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(DTO_QUERY, CarDto.class)
+                .setMaxResults(pageSize)
+                .getResultList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(CarListBenchmark.class)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
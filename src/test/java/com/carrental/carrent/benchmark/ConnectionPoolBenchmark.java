@@ -0,0 +1,159 @@
+package com.carrental.carrent.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+/**
+ * Compares HikariCP defaults with the pool and driver settings of the
+ * {@code perf} profile, with more threads than connections. Defaults to H2;
+ * pass {@code -Dbenchmark.jdbc.url=jdbc:mysql://...} (plus {@code .username}
+ * and {@code .password}) to include the MySQL statement cache and batch
+ * rewriting, which H2 does not understand and are dropped for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String PROFILE_FILE = "application-perf.properties";
+    private static final String LOOKUP_SQL =
+            "SELECT id, model, daily_fee FROM pool_benchmark WHERE id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO pool_benchmark_writes (model, daily_fee) VALUES (?, ?)";
+
+    @Param({"defaults", "perf"})
+    private String settings;
+
+    private HikariDataSource dataSource;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:mem:pool-benchmark;DB_CLOSE_DELAY=-1");
+        HikariConfig config = new HikariConfig();
+        if ("perf".equals(settings)) {
+            StandardEnvironment environment = new StandardEnvironment();
+            environment.getPropertySources()
+                    .addFirst(new ResourcePropertySource(new ClassPathResource(PROFILE_FILE)));
+            Binder.get(environment)
+                    .bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            if (!url.startsWith("jdbc:mysql:")) {
+                config.getDataSourceProperties().clear();
+            }
+            config.setRegisterMbeans(false);
+        }
+        config.setPoolName(settings);
+        config.setJdbcUrl(url);
+        config.setUsername(System.getProperty("benchmark.jdbc.username", "sa"));
+        config.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS pool_benchmark");
+            statement.execute("DROP TABLE IF EXISTS pool_benchmark_writes");
+            statement.execute("CREATE TABLE pool_benchmark (id BIGINT PRIMARY KEY, "
+                    + "model VARCHAR(64) NOT NULL, daily_fee DECIMAL(10, 2) NOT NULL)");
+            statement.execute("CREATE TABLE pool_benchmark_writes ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "model VARCHAR(64) NOT NULL, daily_fee DECIMAL(10, 2) NOT NULL)");
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO pool_benchmark (id, model, daily_fee) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "Model " + i);
+                    insert.setBigDecimal(3, BigDecimal.valueOf(30 + i % 70));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearWrites() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM pool_benchmark_writes");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public String lookupById() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(LOOKUP_SQL)) {
+            statement.setLong(1, ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(2) : null;
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] batchInsert() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    statement.setString(1, "Model " + i);
+                    statement.setBigDecimal(2, BigDecimal.valueOf(30 + i));
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                connection.commit();
+                return counts;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(ConnectionPoolBenchmark.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.model.User;
+import com.carrental.carrent.security.JwtAuthenticationFilter;
+import com.carrental.carrent.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * One pass through {@link JwtAuthenticationFilter} with and without a bearer
+ * token. The user lookup is served from memory, as it is for a real request
+ * that hits the user cache, so the difference between the two is token
+ * parsing, the timer and the security context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(JwtBenchmark.EMAIL);
+        user.setRole(Role.CUSTOMER);
+
+        JwtUtil jwtUtil = JwtBenchmark.jwtUtil();
+        filter = new JwtAuthenticationFilter(jwtUtil, email -> user, new SimpleMeterRegistry());
+        authorization = "Bearer " + jwtUtil.generateToken(JwtBenchmark.EMAIL);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse anonymousRequest() throws ServletException, IOException {
+        return filter(new MockHttpServletRequest("GET", "/cars"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        return filter(request);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(JwtAuthenticationFilterBenchmark.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.security.JwtUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Token issue and validation as done on login and on every authenticated
+ * request. The filter parses each token twice (validate, then read the
+ * subject), so {@link #validateAndReadSubject} is the per-request cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET =
+            "benchmark-jwt-secret-key-that-is-long-enough-for-hmac-sha-256";
+    static final String EMAIL = "customer@example.com";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = jwtUtil();
+        token = jwtUtil.generateToken(EMAIL);
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean isValidToken() {
+        return jwtUtil.isValidToken(token);
+    }
+
+    @Benchmark
+    public String validateAndReadSubject() {
+        return jwtUtil.isValidToken(token) ? jwtUtil.getEmailFromToken(token) : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(JwtBenchmark.class)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.carrental.carrent.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Cost to the calling thread of one log line under contention: the old
+ * {@code System.out.println} (a synchronized, auto-flushing stream), a
+ * synchronous Logback appender, and the async appender from
+ * {@code logback-spring.xml}. Output goes to a null stream, so this measures
+ * locking and formatting only, not the terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String PATTERN =
+            "%d %5p [%t] [%X{correlationId:-}] %logger{39} : %m%n";
+
+    private PrintStream printStream;
+    private LoggerContext loggerContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+
+    @Setup
+    public void setUp() {
+        printStream = new PrintStream(OutputStream.nullOutputStream(), true);
+        loggerContext = new LoggerContext();
+
+        syncLogger = loggerContext.getLogger("sync");
+        syncLogger.setAdditive(false);
+        syncLogger.addAppender(nullAppender("sync-out"));
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(loggerContext);
+        async.setName("async");
+        async.setQueueSize(8192);
+        async.addAppender(nullAppender("async-out"));
+        async.start();
+        asyncLogger = loggerContext.getLogger("async");
+        asyncLogger.setAdditive(false);
+        asyncLogger.addAppender(async);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void systemOutPrintln() {
+        printStream.println("Telegram notification sent: rental " + 42L);
+    }
+
+    @Benchmark
+    public void slf4jSyncAppender() {
+        syncLogger.info("Telegram notification sent: rental {}", 42L);
+    }
+
+    @Benchmark
+    public void slf4jAsyncAppender() {
+        asyncLogger.info("Telegram notification sent: rental {}", 42L);
+    }
+
+    private Appender<ILoggingEvent> nullAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(LoggingBenchmark.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.payment.PaymentDto;
+import com.carrental.carrent.dto.rental.RentalResponseDto;
+import com.carrental.carrent.dto.user.UserResponseDto;
+import com.carrental.carrent.mapper.CarMapper;
+import com.carrental.carrent.mapper.PaymentMapper;
+import com.carrental.carrent.mapper.RentalMapper;
+import com.carrental.carrent.mapper.UserMapper;
+import com.carrental.carrent.mapper.impl.CarMapperImpl;
+import com.carrental.carrent.mapper.impl.PaymentMapperImpl;
+import com.carrental.carrent.mapper.impl.RentalMapperImpl;
+import com.carrental.carrent.mapper.impl.UserMapperImpl;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.Payment;
+import com.carrental.carrent.model.PaymentType;
+import com.carrental.carrent.model.Rental;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.model.Status;
+import com.carrental.carrent.model.User;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Entity to DTO copies done by the generated MapStruct mappers on the
+ * request paths that still load entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final CarMapper carMapper = new CarMapperImpl();
+    private final RentalMapper rentalMapper = new RentalMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+    private final PaymentMapper paymentMapper = new PaymentMapperImpl();
+
+    private Car car;
+    private Rental rental;
+    private User user;
+    private Payment payment;
+
+    @Setup
+    public void setUp() {
+        car = new Car();
+        car.setId(1L);
+        car.setBrand("Toyota");
+        car.setModel("Camry");
+        car.setCarType(CarType.SEDAN);
+        car.setInventory(5);
+        car.setDailyFee(new BigDecimal("49.99"));
+
+        rental = new Rental();
+        rental.setId(1L);
+        rental.setCarId(1L);
+        rental.setUserId(1L);
+        rental.setRentalDate(LocalDate.of(2024, 6, 7));
+        rental.setReturnDate(LocalDate.of(2024, 6, 14));
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("customer@example.com");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setRole(Role.CUSTOMER);
+
+        payment = new Payment();
+        payment.setId(1L);
+        payment.setRentalId(1L);
+        payment.setStatus(Status.PENDING);
+        payment.setPaymentType(PaymentType.PAYMENT);
+        payment.setAmountToPay(new BigDecimal("349.93"));
+        payment.setSessionId("cs_test_benchmark");
+        payment.setSessionUrl("https://checkout.stripe.com/c/pay/cs_test_benchmark");
+    }
+
+    @Benchmark
+    public CarDto carToDto() {
+        return carMapper.toDto(car);
+    }
+
+    @Benchmark
+    public Car carDtoToEntity() {
+        return carMapper.toEntity(carMapper.toDto(car));
+    }
+
+    @Benchmark
+    public RentalResponseDto rentalToResponseDto() {
+        return rentalMapper.toResponseDto(rental);
+    }
+
+    @Benchmark
+    public UserResponseDto userToResponseDto() {
+        return userMapper.toUserResponseDto(user);
+    }
+
+    @Benchmark
+    public PaymentDto paymentToDto() {
+        return paymentMapper.toDto(payment);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(MapperBenchmark.class)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.PricingRule;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import com.carrental.carrent.service.pricing.PricingRuleIndex;
+import com.carrental.carrent.service.pricing.PricingRules;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+    @Param({"1", "7", "45"})
+    private int rentalDays;
+
+    private PricingEngine pricingEngine;
+    private PricingEngine seasonalEngine;
+    private BigDecimal dailyFee;
+    private long dailyFeeCents;
+    private LocalDate rentalDate;
+    private LocalDate returnDate;
+
+    @Setup
+    public void setUp() {
+        pricingEngine = new PricingEngine(PricingRules.builder()
+                .weekendRate(12_000)
+                .discount(30, 1_500)
+                .build());
+        seasonalEngine = new PricingEngine(pricingEngine.defaultRules());
+        seasonalEngine.replaceIndex(PricingRuleIndex.build(pricingEngine.defaultRules(), List.of(
+                rule(null, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 8, 31), 11_000),
+                rule(CarType.SUV, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31), 13_000),
+                rule(CarType.SEDAN, LocalDate.of(2024, 12, 20), null, 12_500))));
+        dailyFee = new BigDecimal("49.99");
+        dailyFeeCents = PricingEngine.toCents(dailyFee);
+        rentalDate = LocalDate.of(2024, 6, 7);
+        returnDate = rentalDate.plusDays(rentalDays);
+    }
+
+    @Benchmark
+    public BigDecimal legacyBigDecimalPrice() {
+        long days = ChronoUnit.DAYS.between(rentalDate, returnDate);
+        return dailyFee.multiply(BigDecimal.valueOf(Math.max(1, days)));
+    }
+
+    @Benchmark
+    public BigDecimal legacyBigDecimalFine() {
+        return dailyFee.multiply(BigDecimal.valueOf(rentalDays))
+                .multiply(BigDecimal.valueOf(1.5));
+    }
+
+    @Benchmark
+    public long engineRentalPriceCents() {
+        return pricingEngine.rentalPriceCents(dailyFeeCents, rentalDate, returnDate);
+    }
+
+    @Benchmark
+    public long engineFineCents() {
+        return pricingEngine.fineCents(dailyFeeCents, rentalDays);
+    }
+
+    @Benchmark
+    public BigDecimal engineRentalPriceAtBoundary() {
+        return pricingEngine.rentalPrice(dailyFee, rentalDate, returnDate);
+    }
+
+    /**
+     * The amount {@code PaymentServiceImpl.createPayment} charges: a car type
+     * lookup in a rule index with seasonal rules, then the price at the boundary.
+     */
+    @Benchmark
+    public BigDecimal paymentAmountWithSeasonalRules() {
+        return seasonalEngine.rentalPrice(CarType.SEDAN, dailyFee, rentalDate, returnDate);
+    }
+
+    private static PricingRule rule(CarType carType, LocalDate validFrom, LocalDate validTo,
+                                    int rateBp) {
+        PricingRule rule = new PricingRule();
+        rule.setCarType(carType);
+        rule.setValidFrom(validFrom);
+        rule.setValidTo(validTo);
+        rule.setRateBp(rateBp);
+        return rule;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(PricingEngineBenchmark.class)
+                .build())
+                .run();
+    }
+}
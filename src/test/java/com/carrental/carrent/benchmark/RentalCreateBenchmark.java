@@ -0,0 +1,128 @@
+package com.carrental.carrent.benchmark;
+
+import com.carrental.carrent.CarrentApplication;
+import com.carrental.carrent.dto.rental.RentalDto;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.model.User;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.user.UserRepository;
+import com.carrental.carrent.service.RentalService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link RentalService#createRental} end to end on H2: validation queries,
+ * the inventory update, the insert, the overdue wheel and the after-commit
+ * events. A user may only hold one active rental, so each iteration is a
+ * batch of one rental per seeded user, and all rentals are closed with a
+ * single update before the next batch. Scores are milliseconds per batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = RentalCreateBenchmark.USERS)
+@Measurement(iterations = 10, batchSize = RentalCreateBenchmark.USERS)
+@Fork(1)
+public class RentalCreateBenchmark {
+    static final int USERS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private RentalService rentalService;
+    private JdbcTemplate jdbcTemplate;
+    private Long carId;
+    private List<Long> userIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(CarrentApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:rental-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.liquibase.enabled=false",
+                        "spring.docker.compose.enabled=false",
+                        "telegram.bot.enabled=false",
+                        "jwt.secret=" + JwtBenchmark.SECRET,
+                        "jwt.expiration=3600000",
+                        "stripe.secret.key=sk_test_benchmark",
+                        "logging.level.root=WARN")
+                .run();
+        rentalService = context.getBean(RentalService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Car car = new Car();
+        car.setBrand("Toyota");
+        car.setModel("Camry");
+        car.setCarType(CarType.SEDAN);
+        car.setInventory(Integer.MAX_VALUE);
+        car.setDailyFee(new BigDecimal("49.99"));
+        carId = context.getBean(CarRepository.class).save(car).getId();
+
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@example.com");
+            user.setFirstName("User");
+            user.setLastName(String.valueOf(i));
+            user.setPassword("{noop}password");
+            user.setRole(Role.CUSTOMER);
+            users.add(user);
+        }
+        userIds = context.getBean(UserRepository.class).saveAll(users).stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void returnAllRentals() {
+        jdbcTemplate.update("UPDATE rentals SET actual_return_date = return_date "
+                + "WHERE actual_return_date IS NULL");
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public RentalDto createRental() {
+        RentalDto rentalDto = new RentalDto();
+        rentalDto.setUserId(userIds.get(next++));
+        rentalDto.setCarId(carId);
+        rentalDto.setRentalDate(LocalDate.now());
+        rentalDto.setReturnDate(LocalDate.now().plusDays(7));
+        return rentalService.createRental(rentalDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(BenchmarkOptions.forBenchmark(RentalCreateBenchmark.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,43 @@
+package com.carrental.carrent.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class LiquibaseChangelogTest {
+    private static final String MASTER_CHANGELOG =
+            "classpath:db/changelog/db.changelog-master.yaml";
+
+    @Test
+    @DisplayName("Master changelog - should apply every change set to an empty database")
+    void update_EmptyDatabase_ShouldApplyAllChangeSets() throws Exception {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:changelog;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(MASTER_CHANGELOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+
+        // When
+        liquibase.afterPropertiesSet();
+
+        // Then
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> changeSets = jdbcTemplate.queryForList(
+                "SELECT ID FROM DATABASECHANGELOG ORDER BY ORDEREXECUTED", String.class);
+        assertEquals(11, changeSets.size());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM "
+                + "INFORMATION_SCHEMA.TABLES WHERE LOWER(TABLE_NAME) = 'job_leases'",
+                Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM "
+                + "INFORMATION_SCHEMA.COLUMNS WHERE LOWER(TABLE_NAME) = 'rentals' "
+                + "AND LOWER(COLUMN_NAME) = 'fined_through'", Integer.class));
+    }
+}
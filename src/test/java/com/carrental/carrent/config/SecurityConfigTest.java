@@ -0,0 +1,70 @@
+package com.carrental.carrent.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.endpoints.web.exposure.include=health,prometheus")
+@Import(TestConfig.class)
+@AutoConfigureObservability(tracing = false)
+class SecurityConfigTest {
+    private static MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        if (mockMvc == null) {
+            mockMvc = MockMvcBuilders
+                    .webAppContextSetup(applicationContext)
+                    .apply(springSecurity())
+                    .build();
+        }
+    }
+
+    @Test
+    @DisplayName("Prometheus - should require authentication")
+    void prometheus_Anonymous_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Prometheus - should be forbidden to customers")
+    void prometheus_Customer_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("customer").roles("CUSTOMER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Prometheus - should export metrics to managers")
+    void prometheus_Manager_ShouldReturnMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("manager").roles("MANAGER")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Health - should stay public")
+    void health_Anonymous_ShouldNotRequireAuthentication() throws Exception {
+        int status = mockMvc.perform(get("/actuator/health/liveness"))
+                .andReturn().getResponse().getStatus();
+
+        assertNotEquals(401, status);
+        assertNotEquals(403, status);
+    }
+}
@@ -3,7 +3,7 @@ package com.carrental.carrent.config;
 import static org.mockito.Mockito.mock;
 
 import com.carrental.carrent.service.telegram.CarRentalTelegramBot;
-import com.carrental.carrent.service.telegram.OverdueRentalScheduler;
+import com.carrental.carrent.service.telegram.OverdueAlertListener;
 import com.carrental.carrent.service.telegram.TelegramNotificationService;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -28,7 +28,7 @@ public class TestConfig {
     }
 
     @Bean
-    public OverdueRentalScheduler overdueRentalScheduler() {
-        return mock(OverdueRentalScheduler.class);
+    public OverdueAlertListener overdueAlertListener() {
+        return mock(OverdueAlertListener.class);
     }
 }
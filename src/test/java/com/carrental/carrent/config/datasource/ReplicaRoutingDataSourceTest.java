@@ -0,0 +1,159 @@
+package com.carrental.carrent.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.carrental.carrent.config.TestConfig;
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.service.CarService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary",
+        "replica.datasource.url=jdbc:h2:mem:replica;MODE=MySQL",
+        "replica.datasource.username=sa",
+        "replica.read-your-writes-window-ms=60000"
+})
+@Import({TestConfig.class, ReplicaRoutingDataSourceTest.ReplicaSchemaConfig.class})
+class ReplicaRoutingDataSourceTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier(ReplicaDataSourceConfig.REPLICA_DATA_SOURCE)
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Test
+    @DisplayName("Read-only transaction in a replica read - should run on the replica")
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("REPLICA", replicaRead(() -> currentDatabase(true, false)));
+    }
+
+    @Test
+    @DisplayName("Read-only transaction outside a replica read - should run on the primary")
+    void readOnlyTransaction_WithoutMarker_ShouldUsePrimary() {
+        assertEquals("PRIMARY", currentDatabase(true, false));
+    }
+
+    @Test
+    @DisplayName("Marked service read - should see replica rows; repository reads should not")
+    void markedServiceRead_ShouldUseReplica_RepositoryRead_ShouldUsePrimary() {
+        // Car.carType is stored by ordinal
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO cars "
+                + "(model, brand, car_type, inventory, daily_fee, is_deleted) "
+                + "VALUES ('Replica', 'Only', '0', 1, 10.00, false)");
+
+        List<CarDto> cars = carService.findAll(Pageable.unpaged()).getContent();
+
+        assertEquals(1, cars.size());
+        assertEquals("Replica", cars.get(0).getModel());
+        assertEquals(0, carRepository.count());
+        assertTrue(carRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read-write transaction - should run on the primary")
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("PRIMARY", currentDatabase(false, false));
+    }
+
+    @Test
+    @WithMockUser(username = "writer@example.com")
+    @DisplayName("Read after own write - should stay on the primary")
+    void readAfterCommittedWrite_ShouldUsePrimary() {
+        currentDatabase(false, false);
+
+        assertEquals("PRIMARY", replicaRead(() -> currentDatabase(true, false)));
+    }
+
+    @Test
+    @WithMockUser(username = "rolled-back@example.com")
+    @DisplayName("Read after rolled back write - should use the replica")
+    void readAfterRolledBackWrite_ShouldUseReplica() {
+        currentDatabase(false, true);
+
+        assertEquals("REPLICA", replicaRead(() -> currentDatabase(true, false)));
+    }
+
+    @Test
+    @WithMockUser(username = "expired@example.com")
+    @DisplayName("Guard - should release the user once the window has passed")
+    void guard_WindowElapsed_ShouldAllowReplica() {
+        AtomicLong clock = new AtomicLong();
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(1_000, clock::get);
+
+        guard.recordWriteAfterCommit();
+        clock.addAndGet(999_000_000L);
+        assertTrue(guard.mustReadPrimary());
+
+        clock.addAndGet(1_000_000L);
+        assertFalse(guard.mustReadPrimary());
+    }
+
+    private String currentDatabase(boolean readOnly, boolean rollback) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> {
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return new JdbcTemplate(dataSource)
+                    .queryForObject("SELECT DATABASE()", String.class)
+                    .toUpperCase();
+        });
+    }
+
+    private static <T> T replicaRead(Supplier<T> read) {
+        boolean outer = ReplicaRoutingDataSource.bindReplicaRead(true);
+        try {
+            return read.get();
+        } finally {
+            ReplicaRoutingDataSource.bindReplicaRead(outer);
+        }
+    }
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+        @Bean
+        InitializingBean replicaSchema(
+                @Qualifier(ReplicaDataSourceConfig.REPLICA_DATA_SOURCE) DataSource replica) {
+            return () -> {
+                SpringLiquibase liquibase = new SpringLiquibase();
+                liquibase.setDataSource(replica);
+                liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+                liquibase.setResourceLoader(new DefaultResourceLoader());
+                liquibase.afterPropertiesSet();
+            };
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.carrental.carrent.config.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final LogSampler sampler = new LogSampler(Duration.ofSeconds(1), clock::get);
+
+    @Test
+    @DisplayName("Sample - should let the first occurrence through")
+    void sample_FirstOccurrence_ShouldLog() {
+        assertEquals(0, sampler.sample());
+    }
+
+    @Test
+    @DisplayName("Sample - should suppress within the interval and report the count after it")
+    void sample_Burst_ShouldReportSuppressedCount() {
+        sampler.sample();
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals(-1, sampler.sample());
+        assertEquals(-1, sampler.sample());
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals(2, sampler.sample());
+        assertEquals(-1, sampler.sample());
+    }
+}
@@ -2,8 +2,10 @@ package com.carrental.carrent.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.carrental.carrent.config.TestConfig;
@@ -22,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -132,6 +135,36 @@ class AuthenticationControllerTest {
         assertNotNull(response);
     }
 
+    @Test
+    @DisplayName("Login with a hash of a lower cost - should rehash the stored password")
+    void login_WithOutdatedHashCost_ShouldUpgradeStoredHash() throws Exception {
+        // Given
+        User user = new User();
+        user.setEmail("legacy@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("Password123"));
+        user.setFirstName("Legacy");
+        user.setLastName("User");
+        user.setRole(Role.CUSTOMER);
+        userRepository.save(user);
+
+        UserLoginRequestDto requestDto = new UserLoginRequestDto();
+        requestDto.setEmail("legacy@example.com");
+        requestDto.setPassword("Password123");
+
+        // When
+        mockMvc.perform(post("/auth/login")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // Then
+        String storedHash = userRepository.findByEmail("legacy@example.com")
+                .orElseThrow()
+                .getPassword();
+        assertTrue(storedHash.startsWith("$2a$10$"), storedHash);
+        assertTrue(passwordEncoder.matches("Password123", storedHash));
+    }
+
     @Test
     @DisplayName("Register user with existing email - should return bad request")
     void register_WithExistingEmail_ShouldReturnBadRequest() throws Exception {
@@ -209,6 +242,29 @@ class AuthenticationControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("Login too often for one email - should return too many requests")
+    void login_TooManyAttemptsForEmail_ShouldReturnTooManyRequests() throws Exception {
+        // Given
+        UserLoginRequestDto requestDto = new UserLoginRequestDto();
+        requestDto.setEmail("limited@example.com");
+        requestDto.setPassword("WrongPassword123");
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/auth/login")
+                            .content(jsonRequest)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/auth/login")
+                        .content(jsonRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
     @Test
     @DisplayName("Register user with password mismatch - should return bad request")
     void register_WithPasswordMismatch_ShouldReturnBadRequest() throws Exception {
@@ -4,14 +4,17 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.carrental.carrent.config.TestConfig;
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarImportResultDto;
 import com.carrental.carrent.mapper.CarMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.model.CarType;
@@ -275,4 +278,86 @@ class CarControllerTest {
         mockMvc.perform(get("/cars/{id}", 999L))
                 .andExpect(status().isNotFound());
     }
+
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Bulk import NDJSON - should insert valid lines and report invalid ones")
+    void importCarsNdjson_MixedLines_ShouldReportErrors() throws Exception {
+        // Given
+        final long initialCount = carRepository.count();
+        String body = """
+                {"brand":"Kia","model":"Ceed","carType":"HATCHBACK","inventory":4,"dailyFee":35.00}
+                {"brand":"","model":"Rio","carType":"SEDAN","inventory":2,"dailyFee":30.00}
+
+                {"brand":"Skoda","model":"Fabia","carType":"UNIVERSAL","inventory":3,"dailyFee":45}
+                not json
+                """;
+
+        // When
+        MvcResult result = mockMvc.perform(post("/cars/bulk")
+                        .content(body)
+                        .contentType("application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        CarImportResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), CarImportResultDto.class);
+        assertEquals(4, actual.received());
+        assertEquals(2, actual.imported());
+        assertEquals(2, actual.rejected());
+        assertEquals(2, actual.errors().get(0).line());
+        assertEquals(5, actual.errors().get(1).line());
+        assertEquals(initialCount + 2, carRepository.count());
+    }
+
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Bulk import CSV - should insert rows using header column order")
+    void importCarsCsv_ValidRows_ShouldInsertCars() throws Exception {
+        // Given
+        final long initialCount = carRepository.count();
+        String body = """
+                model,brand,carType,dailyFee,inventory
+                Ceed,Kia,HATCHBACK,35.00,4
+                Octavia,Skoda,WAGON,45.00,3
+                Passat,Volkswagen,UNIVERSAL,55.50,2
+                """;
+
+        // When
+        MvcResult result = mockMvc.perform(post("/cars/bulk")
+                        .content(body)
+                        .contentType("text/csv"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        CarImportResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), CarImportResultDto.class);
+        assertEquals(2, actual.imported());
+        assertEquals(1, actual.rejected());
+        assertEquals(3, actual.errors().get(0).line());
+        assertEquals(initialCount + 2, carRepository.count());
+    }
+
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Export cars - should stream one JSON line per car")
+    void exportCars_WithManagerRole_ShouldStreamNdjson() throws Exception {
+        // When
+        MvcResult asyncResult = mockMvc.perform(get("/cars/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(carRepository.count(), lines.length);
+        CarDto first = objectMapper.readValue(lines[0], CarDto.class);
+        assertEquals(1L, first.getId());
+        assertEquals("Toyota", first.getBrand());
+        assertEquals(CarType.SEDAN, first.getCarType());
+    }
 }
@@ -0,0 +1,262 @@
+package com.carrental.carrent.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.carrental.carrent.config.TestConfig;
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.payment.PaymentRequestDto;
+import com.carrental.carrent.dto.pricing.PricingRuleDto;
+import com.carrental.carrent.dto.rental.RentalDto;
+import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
+import com.carrental.carrent.dto.user.UserLoginRequestDto;
+import com.carrental.carrent.dto.user.UserRegistrationRequestDto;
+import com.carrental.carrent.dto.user.UserRoleUpdateDto;
+import com.carrental.carrent.dto.user.UserUpdateRequestDto;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.PaymentType;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.model.User;
+import com.carrental.carrent.service.StripeService;
+import com.carrental.carrent.support.QueryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.model.checkout.Session;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * SQL statement budgets for every JSON endpoint, run against the real services
+ * on H2. A request authenticated with a JWT costs one more statement for the
+ * user lookup in the filter; here the principal is set directly.
+ *
+ * <p>The streaming endpoints (car export, rental history stream, revenue
+ * report) read through a single cursor on an async thread and the bulk import
+ * inserts in JDBC batches, so they are not budgeted here.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestConfig.class)
+@Sql(scripts = {
+        "classpath:database/delete-data-from-tables.sql",
+        "classpath:database/query-budget/add-query-budget-data.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/delete-data-from-tables.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ControllerQueryBudgetTest {
+    protected static MockMvc mockMvc;
+
+    @MockitoBean
+    private StripeService stripeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WebApplicationContext applicationContext;
+
+    private QueryBudget queryBudget;
+
+    @BeforeEach
+    void setUp() {
+        if (mockMvc == null) {
+            mockMvc = MockMvcBuilders
+                    .webAppContextSetup(applicationContext)
+                    .apply(springSecurity())
+                    .build();
+        }
+        queryBudget = new QueryBudget(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Cars - list, get, quote, create, update and delete stay within budget")
+    void cars_ShouldStayWithinQueryBudget() throws Exception {
+        expectOk(2, get("/cars").with(user(customer())));
+        expectOk(1, get("/cars/{id}", 1L).with(user(customer())));
+        expectOk(1, get("/cars/{id}/quote", 1L)
+                .param("from", "2025-11-01")
+                .param("to", "2025-11-08")
+                .with(user(customer())));
+
+        CarDto carDto = new CarDto(null, "Corolla", "Toyota", CarType.SEDAN, 3,
+                BigDecimal.valueOf(55));
+        expect(1, json(post("/cars"), carDto).with(user(manager())), 201);
+        expectOk(2, json(put("/cars/{id}", 2L), carDto).with(user(manager())));
+        expect(2, delete("/cars/{id}", 4L).with(user(manager())), 204);
+    }
+
+    @Test
+    @DisplayName("Rentals - current rental, lists and history stay within budget")
+    void rentalQueries_ShouldStayWithinQueryBudget() throws Exception {
+        expectOk(2, get("/rentals").with(user(alice())));
+        expectOk(1, get("/rentals")
+                .param("user_id", "1")
+                .param("is_active", "true")
+                .with(user(manager())));
+        expectOk(2, get("/rentals/history")
+                .param("user_id", "1")
+                .with(user(manager())));
+    }
+
+    @Test
+    @DisplayName("Rentals - create and return stay within budget")
+    void rentalCommands_ShouldStayWithinQueryBudget() throws Exception {
+        RentalDto rentalDto = new RentalDto();
+        rentalDto.setUserId(2L);
+        rentalDto.setCarId(1L);
+        rentalDto.setRentalDate(LocalDate.now());
+        rentalDto.setReturnDate(LocalDate.now().plusDays(3));
+        expectOk(5, json(post("/rentals"), rentalDto).with(user(manager())));
+
+        RentalReturnRequestDto returnDto = new RentalReturnRequestDto();
+        returnDto.setActualReturnDate(LocalDate.now());
+        expectOk(5, json(post("/rentals/return"), returnDto).with(user(alice())));
+    }
+
+    @Test
+    @DisplayName("Payments - list, checkout and success callback stay within budget")
+    void payments_ShouldStayWithinQueryBudget() throws Exception {
+        Session session = new Session();
+        session.setId("cs_test_budget");
+        session.setUrl("https://checkout.stripe.com/c/pay/cs_test_budget");
+        when(stripeService.createCheckoutSession(any())).thenReturn(session);
+
+        expectOk(1, get("/payments").param("rental_id", "1").with(user(manager())));
+
+        PaymentRequestDto request = new PaymentRequestDto();
+        request.setRentalId(3L);
+        request.setPaymentType(PaymentType.PAYMENT);
+        expectOk(3, json(post("/payments"), request).with(user(manager())));
+
+        expectOk(2, get("/payments/success")
+                .param("session_id", "test_session_123")
+                .with(user(manager())));
+    }
+
+    @Test
+    @DisplayName("Users - profile, profile update and role update stay within budget")
+    void users_ShouldStayWithinQueryBudget() throws Exception {
+        expectOk(1, get("/users/me").with(user(alice())));
+
+        UserUpdateRequestDto updateDto = new UserUpdateRequestDto();
+        updateDto.setEmail("alice@example.com");
+        updateDto.setFirstName("Alicia");
+        updateDto.setLastName("Johnson");
+        expectOk(2, json(put("/users/me"), updateDto).with(user(alice())));
+
+        UserRoleUpdateDto roleUpdateDto = new UserRoleUpdateDto();
+        roleUpdateDto.setRole(Role.MANAGER);
+        expectOk(2, json(put("/users/{userId}/role", 3L), roleUpdateDto)
+                .with(user(manager())));
+    }
+
+    @Test
+    @DisplayName("Authentication - registration and login stay within budget")
+    void authentication_ShouldStayWithinQueryBudget() throws Exception {
+        UserRegistrationRequestDto registration = new UserRegistrationRequestDto();
+        registration.setEmail("budget@example.com");
+        registration.setPassword("password123");
+        registration.setRepeatPassword("password123");
+        registration.setFirstName("Budget");
+        registration.setLastName("User");
+        expectOk(2, json(post("/auth/registration"), registration));
+
+        UserLoginRequestDto login = new UserLoginRequestDto();
+        login.setEmail("budget@example.com");
+        login.setPassword("password123");
+        expectOk(1, json(post("/auth/login"), login));
+    }
+
+    @Test
+    @DisplayName("Pricing rules, analytics and jobs stay within budget")
+    void managementEndpoints_ShouldStayWithinQueryBudget() throws Exception {
+        expectOk(1, get("/pricing-rules").with(user(manager())));
+
+        PricingRuleDto rule = new PricingRuleDto();
+        rule.setCarType(CarType.SUV);
+        rule.setValidFrom(LocalDate.of(2025, 12, 20));
+        rule.setValidTo(LocalDate.of(2026, 1, 5));
+        rule.setRateBp(12_000);
+        // insert, then the rules and utilization reload after commit
+        MvcResult created = expect(3, json(post("/pricing-rules"), rule)
+                .with(user(manager())), 201);
+        Long ruleId = objectMapper.readValue(created.getResponse().getContentAsString(),
+                PricingRuleDto.class).getId();
+        // exists check, load, delete, then the rules and utilization reload after commit
+        expect(5, delete("/pricing-rules/{id}", ruleId).with(user(manager())), 204);
+
+        expectOk(1, get("/analytics/fleet")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31")
+                .with(user(manager())));
+        expectOk(0, get("/jobs").with(user(manager())));
+    }
+
+    private MvcResult expectOk(int maxStatements, MockHttpServletRequestBuilder request)
+            throws Exception {
+        return expect(maxStatements, request, 200);
+    }
+
+    private MvcResult expect(int maxStatements, MockHttpServletRequestBuilder request,
+                             int expectedStatus) throws Exception {
+        MockHttpServletRequest built = request.buildRequest(applicationContext.getServletContext());
+        MvcResult[] result = new MvcResult[1];
+        queryBudget.assertAtMost(maxStatements,
+                built.getMethod() + " " + built.getRequestURI(), () -> result[0] = mockMvc
+                .perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn());
+        return result[0];
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request,
+                                               Object body) throws Exception {
+        return request
+                .content(objectMapper.writeValueAsString(body))
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private static User customer() {
+        return principal(1L, "customer@example.com", Role.CUSTOMER);
+    }
+
+    private static User manager() {
+        return principal(2L, "manager@example.com", Role.MANAGER);
+    }
+
+    private static User alice() {
+        return principal(3L, "alice@example.com", Role.CUSTOMER);
+    }
+
+    private static User principal(Long id, String email, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setRole(role);
+        return user;
+    }
+}
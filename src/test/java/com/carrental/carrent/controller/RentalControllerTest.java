@@ -5,24 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.carrental.carrent.config.TestConfig;
-import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
-import com.carrental.carrent.dto.user.UserResponseDto;
-import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.RentalService;
-import com.carrental.carrent.service.UserService;
 import com.carrental.carrent.service.telegram.TelegramNotificationService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,9 +31,13 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -62,12 +66,6 @@ class RentalControllerTest {
     @MockitoBean
     private TelegramNotificationService telegramNotificationService;
 
-    @MockitoBean
-    private UserService userService;
-
-    @MockitoBean
-    private CarService carService;
-
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -102,18 +100,7 @@ class RentalControllerTest {
         responseDto.setCarId(requestDto.getCarId());
         responseDto.setUserId(requestDto.getUserId());
 
-        UserResponseDto userResponseDto = new UserResponseDto();
-        userResponseDto.setId(1L);
-        userResponseDto.setEmail("test@test.com");
-
-        CarDto carResponseDto = new CarDto();
-        carResponseDto.setId(1L);
-        carResponseDto.setModel("Test Model");
-        carResponseDto.setBrand("Test Brand");
-
         when(rentalService.createRental(any(RentalDto.class))).thenReturn(responseDto);
-        when(userService.findById(anyLong())).thenReturn(userResponseDto);
-        when(carService.findById(anyLong())).thenReturn(carResponseDto);
 
         String jsonRequest = objectMapper.writeValueAsString(requestDto);
 
@@ -139,10 +126,7 @@ class RentalControllerTest {
         assertEquals(requestDto.getUserId(), actual.getUserId());
 
         verify(rentalService, times(1)).createRental(any(RentalDto.class));
-        verify(userService, times(1)).findById(anyLong());
-        verify(carService, times(1)).findById(anyLong());
-        verify(telegramNotificationService, times(1))
-                .sendNewRentalNotification(any(), any(), any());
+        verifyNoInteractions(telegramNotificationService);
     }
 
     @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
@@ -177,6 +161,31 @@ class RentalControllerTest {
         verify(rentalService, times(1)).getRentalsByUserAndStatus(anyLong(), any(Boolean.class));
     }
 
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Get rental history - should return newest rentals first by default")
+    void getRentalHistory_WithManagerRole_ShouldReturnDefaultPage() throws Exception {
+        // Given
+        List<RentalResponseDto> rentals = List.of(createTestRentalResponseDto());
+        when(rentalService.getRentalHistory(eq(1L), isNull(), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(rentals,
+                        invocation.getArgument(2, Pageable.class), 1));
+
+        // When
+        mockMvc.perform(get("/rentals/history")
+                        .param("user_id", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        // Then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(rentalService).getRentalHistory(eq(1L), isNull(), captor.capture());
+        assertEquals(20, captor.getValue().getPageSize());
+        assertEquals(Sort.Direction.DESC,
+                captor.getValue().getSort().getOrderFor("rentalDate").getDirection());
+    }
+
     @WithMockUser(username = "customer@test.com", authorities = {"ROLE_CUSTOMER"})
     @Test
     @DisplayName("Get current rental - should return rental for customer")
@@ -0,0 +1,96 @@
+package com.carrental.carrent.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.carrental.carrent.config.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestConfig.class)
+@Sql(scripts = {
+        "classpath:database/delete-data-from-tables.sql",
+        "classpath:database/report/add-revenue-data-to-tables.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/delete-data-from-tables.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReportControllerTest {
+    protected static MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        if (mockMvc == null) {
+            mockMvc = MockMvcBuilders
+                    .webAppContextSetup(applicationContext)
+                    .apply(springSecurity())
+                    .build();
+        }
+    }
+
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Export revenue - should stream paid payments as CSV")
+    void exportRevenue_ValidRange_ShouldStreamCsv() throws Exception {
+        // When
+        MvcResult asyncResult = mockMvc.perform(get("/reports/revenue")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        String expected = """
+                day,payment_id,payment_type,car_id,car_type,amount
+                2025-10-10,1,PAYMENT,1,SEDAN,400.00
+                2025-10-12,2,PAYMENT,2,SUV,450.00
+                2025-10-12,3,FINE,2,SUV,450.00
+                """;
+        assertEquals(expected, result.getResponse().getContentAsString());
+        assertTrue(result.getResponse().getContentType().startsWith("text/csv"));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)
+                .contains("revenue-2025-10-01-2025-10-31.csv"));
+    }
+
+    @WithMockUser(username = "manager", authorities = {"ROLE_MANAGER"})
+    @Test
+    @DisplayName("Export revenue - should reject inverted date range")
+    void exportRevenue_InvertedRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/reports/revenue")
+                        .param("from", "2025-10-31")
+                        .param("to", "2025-10-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "customer", authorities = {"ROLE_CUSTOMER"})
+    @Test
+    @DisplayName("Export revenue - should deny customers")
+    void exportRevenue_Customer_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/reports/revenue")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-31"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,69 @@
+package com.carrental.carrent.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps every latency sample per endpoint so percentiles are exact rather
+ * than bucketed. A two-minute run at a few thousand requests per second is a
+ * few megabytes of samples.
+ */
+final class LatencyRecorder {
+    private final Map<String, Samples> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, name -> new Samples()).add(nanos, success);
+    }
+
+    /** Drops the warm-up samples. */
+    void reset() {
+        endpoints.clear();
+    }
+
+    List<EndpointStats> stats(Duration elapsed) {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey(), elapsed))
+                .toList();
+    }
+
+    record EndpointStats(String endpoint, int requests, long errors,
+                         double throughputPerSecond, double p50Millis, double p99Millis,
+                         double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1_024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long sample, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = sample;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats stats(String endpoint, Duration elapsed) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, size, errors,
+                    size * 1_000.0 / Math.max(1, elapsed.toMillis()),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.carrental.carrent.loadtest;
+
+import com.carrental.carrent.CarrentApplication;
+import com.carrental.carrent.dto.payment.PaymentRequestDto;
+import com.carrental.carrent.dto.rental.RentalDto;
+import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
+import com.carrental.carrent.dto.user.UserLoginRequestDto;
+import com.carrental.carrent.model.PaymentType;
+import com.carrental.carrent.service.PaymentService;
+import com.carrental.carrent.service.overdue.OverdueRentalTracker;
+import com.carrental.carrent.support.data.DataGenerator;
+import com.carrental.carrent.support.data.JdbcRowWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * End-to-end load test. Starts the application with its main configuration
+ * on a random port, with Stripe and Telegram pointed at local
+ * {@link StubServer stubs}, fills the database with the
+ * {@link DataGenerator} and drives it over HTTP:
+ *
+ * <ul>
+ *     <li>browse: a catalog page, a car and a price quote, every iteration,
+ *     with cars drawn by the data set's popularity;</li>
+ *     <li>rent, pay, return: with probability {@code loadtest.rent-ratio} an
+ *     iteration rents a car for the virtual user's customer, creates the
+ *     Stripe checkout, confirms it and returns the car;</li>
+ *     <li>overdue sweep: the overdue fine job and the overdue wheel run on
+ *     their own thread every {@code loadtest.sweep-interval-seconds}.</li>
+ * </ul>
+ *
+ * <p>p50, p99 and throughput per endpoint go to stdout and to
+ * {@code target/loadtest/<label>.json}. Compare two runs that differ in one
+ * setting, e.g. {@code -Dloadtest.profiles=perf} for the logging and pool
+ * settings, or {@code -Dloadtest.stripe.latency-ms=2000} with and without
+ * the virtual-threads profile. See {@link LoadTestSettings} for the knobs.
+ */
+@Slf4j
+public final class LoadTest {
+    private static final Path RESULTS_DIR = Path.of("target", "loadtest");
+
+    private final LoadTestSettings settings;
+    private final LoadTestClient client;
+    private final DataGenerator dataGenerator;
+    private final LatencyRecorder recorder;
+    private final PaymentService paymentService;
+    private final OverdueRentalTracker overdueRentalTracker;
+    private volatile boolean running = true;
+    private String managerToken;
+
+    private LoadTest(LoadTestSettings settings, ConfigurableApplicationContext context,
+                     DataGenerator dataGenerator, LatencyRecorder recorder) {
+        this.settings = settings;
+        this.dataGenerator = dataGenerator;
+        this.recorder = recorder;
+        Environment environment = context.getEnvironment();
+        this.client = new LoadTestClient("http://localhost:"
+                + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", ""),
+                context.getBean(ObjectMapper.class), recorder);
+        this.paymentService = context.getBean(PaymentService.class);
+        this.overdueRentalTracker = context.getBean(OverdueRentalTracker.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (StripeStub stripe = new StripeStub(settings.stripeLatency(),
+                     settings.stripeErrorRate());
+             TelegramStub telegram = new TelegramStub(settings.telegramLatency(),
+                     settings.telegramErrorRate());
+             ConfigurableApplicationContext context = start(settings, stripe, telegram)) {
+            DataGenerator dataGenerator = new DataGenerator(settings.dataSet());
+            try (JdbcRowWriter writer = new JdbcRowWriter(context.getBean(DataSource.class))) {
+                dataGenerator.generate(writer);
+            }
+            // generated rentals bypassed the wheel the application loaded on start-up
+            context.getBean(OverdueRentalTracker.class).reload();
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            Duration elapsed = new LoadTest(settings, context, dataGenerator, recorder).run();
+
+            Map<String, Long> stubs = new LinkedHashMap<>();
+            stubs.put("stripeCalls", stripe.calls());
+            stubs.put("stripeInjectedFailures", stripe.injectedFailures());
+            stubs.put("telegramCalls", telegram.calls());
+            stubs.put("telegramInjectedFailures", telegram.injectedFailures());
+            Report report = new Report(settings, elapsed.toMillis() / 1_000.0,
+                    recorder.stats(elapsed), stubs);
+            print(report);
+            write(report, context.getBean(ObjectMapper.class));
+        }
+    }
+
+    private Duration run() throws InterruptedException {
+        managerToken = login(DataGenerator.email(1));
+        ExecutorService users = Executors.newFixedThreadPool(settings.virtualUsers());
+        for (int i = 0; i < settings.virtualUsers(); i++) {
+            int index = i;
+            users.execute(() -> virtualUser(index));
+        }
+        log.info("Warming up {} virtual users for {}", settings.virtualUsers(),
+                settings.warmup());
+        Thread.sleep(settings.warmup().toMillis());
+        recorder.reset();
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+        sweeper.scheduleWithFixedDelay(this::overdueSweep, 0,
+                settings.sweepInterval().toMillis(), TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        log.info("Measuring for {}", settings.duration());
+        Thread.sleep(settings.duration().toMillis());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        running = false;
+        sweeper.shutdown();
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.MINUTES);
+        sweeper.awaitTermination(1, TimeUnit.MINUTES);
+        return elapsed;
+    }
+
+    private void virtualUser(int index) {
+        long customerId = settings.dataSet().reservedCustomerId(index);
+        String token = login(DataGenerator.email(customerId));
+        SplittableRandom random = new SplittableRandom(index);
+        while (running) {
+            browse(token, random);
+            if (random.nextDouble() < settings.rentRatio()) {
+                rentPayReturn(customerId, token, random);
+            }
+        }
+    }
+
+    private void browse(String token, SplittableRandom random) {
+        int pages = Math.max(1, Math.min(100, settings.dataSet().cars() / 20));
+        client.get("GET /cars", "/cars?size=20&page=" + random.nextInt(pages), token);
+        long carId = randomCar(random);
+        client.get("GET /cars/{id}", "/cars/" + carId, token);
+        LocalDate from = LocalDate.now().plusDays(1 + random.nextInt(30));
+        client.get("GET /cars/{id}/quote", "/cars/" + carId + "/quote?from=" + from
+                + "&to=" + from.plusDays(1 + random.nextInt(7)), token);
+    }
+
+    private void rentPayReturn(long customerId, String token, SplittableRandom random) {
+        RentalDto rental = new RentalDto();
+        rental.setUserId(customerId);
+        rental.setCarId(randomCar(random));
+        rental.setRentalDate(LocalDate.now());
+        rental.setReturnDate(LocalDate.now().plusDays(1 + random.nextInt(7)));
+        JsonNode created = client.json(client.post("POST /rentals", "/rentals",
+                managerToken, rental));
+        if (created == null) {
+            return;
+        }
+
+        PaymentRequestDto payment = new PaymentRequestDto();
+        payment.setRentalId(created.get("id").asLong());
+        payment.setPaymentType(PaymentType.PAYMENT);
+        JsonNode checkout = client.json(client.post("POST /payments", "/payments",
+                managerToken, payment));
+        if (checkout != null) {
+            String url = checkout.get("url").asText();
+            client.get("GET /payments/success", "/payments/success?session_id="
+                    + url.substring(url.lastIndexOf('/') + 1), managerToken);
+        }
+
+        RentalReturnRequestDto returnRequest = new RentalReturnRequestDto();
+        returnRequest.setActualReturnDate(LocalDate.now());
+        client.post("POST /rentals/return", "/rentals/return", token, returnRequest);
+    }
+
+    private void overdueSweep() {
+        timeJob("job overdue-fines", paymentService::checkOverdueRentals);
+        timeJob("job overdue-wheel", overdueRentalTracker::fireOverdue);
+    }
+
+    private void timeJob(String name, Runnable job) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            job.run();
+            success = true;
+        } catch (RuntimeException e) {
+            log.warn("{} failed", name, e);
+        } finally {
+            recorder.record(name, System.nanoTime() - start, success);
+        }
+    }
+
+    private long randomCar(SplittableRandom random) {
+        return dataGenerator.sampleAvailableCar(random);
+    }
+
+    private String login(String email) {
+        UserLoginRequestDto login = new UserLoginRequestDto();
+        login.setEmail(email);
+        login.setPassword(DataGenerator.PASSWORD);
+        JsonNode response = client.json(client.post("POST /auth/login", "/auth/login", null,
+                login));
+        if (response == null) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        return response.get("token").asText();
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings,
+                                                        StripeStub stripe,
+                                                        TelegramStub telegram)
+            throws IOException {
+        Properties main = mainApplicationProperties();
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--telegram.bot.enabled=true",
+                "--telegram.bot.token=loadtest",
+                "--telegram.bot.username=loadtest_bot",
+                "--telegram.bot.admin-chat-id=1",
+                "--telegram.bot.api-url=" + telegram.apiUrl(),
+                "--stripe.secret.key=sk_test_loadtest",
+                "--stripe.api-base=" + stripe.baseUrl(),
+                "--spring.sql.init.mode=never",
+                // every virtual user logs in from the loopback address and calls the API
+                // far above a real customer's rate; admission control stays on
+                "--security.login.rate-limit.enabled=false",
+                "--api.rate-limit.enabled=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false"));
+        if (settings.usesH2()) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop",
+                    "--spring.liquibase.enabled=false"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + settings.jdbcUrl(),
+                    "--spring.datasource.username=" + settings.jdbcUsername(),
+                    "--spring.datasource.password=" + settings.jdbcPassword()));
+            // the test configuration overrides these for H2; restore the production values
+            for (String key : List.of("spring.jpa.hibernate.ddl-auto", "spring.liquibase.enabled",
+                    "reports.fetch-size", "rentals.history.fetch-size")) {
+                args.add("--" + key + "=" + main.getProperty(key));
+            }
+        }
+        SpringApplicationBuilder application = new SpringApplicationBuilder(
+                CarrentApplication.class).properties(main);
+        if (!settings.profiles().isBlank()) {
+            application.profiles(settings.profiles().split(","));
+        }
+        return application.run(args.toArray(String[]::new));
+    }
+
+    /**
+     * The main {@code application.properties}, which the test one shadows on
+     * the test classpath. Used as default properties, so profile files and the
+     * command-line overrides above still win over it.
+     */
+    private static Properties mainApplicationProperties() throws IOException {
+        for (URL url : Collections.list(LoadTest.class.getClassLoader()
+                .getResources("application.properties"))) {
+            if (!url.getPath().contains("test-classes")) {
+                Properties properties = new Properties();
+                try (InputStream in = url.openStream()) {
+                    properties.load(in);
+                }
+                return properties;
+            }
+        }
+        throw new IllegalStateException("Main application.properties is not on the classpath");
+    }
+
+    private static void print(Report report) {
+        System.out.printf("%n%-28s %9s %7s %9s %10s %10s %10s%n", "endpoint", "requests",
+                "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.EndpointStats stats : report.endpoints()) {
+            System.out.printf("%-28s %9d %7d %9.1f %10.2f %10.2f %10.2f%n", stats.endpoint(),
+                    stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                    stats.p50Millis(), stats.p99Millis(), stats.maxMillis());
+        }
+        System.out.println("stubs: " + report.stubs());
+    }
+
+    private static void write(Report report, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(RESULTS_DIR);
+        Path file = RESULTS_DIR.resolve(report.settings().label() + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        log.info("Results written to {}", file.toAbsolutePath());
+    }
+
+    record Report(LoadTestSettings settings, double elapsedSeconds,
+                  List<LatencyRecorder.EndpointStats> endpoints, Map<String, Long> stubs) {
+    }
+}
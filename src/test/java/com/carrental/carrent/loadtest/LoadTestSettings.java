@@ -0,0 +1,60 @@
+package com.carrental.carrent.loadtest;
+
+import com.carrental.carrent.support.data.DataSetSpec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties. With
+ * no properties the run generates the default {@link DataSetSpec} into an
+ * in-memory H2 database and drives it with 32 virtual users for two minutes
+ * after a 30-second warm-up; {@code loadtest.scale} shrinks the data set for a
+ * quick local run. Each virtual user rents as one of the data set's reserved
+ * customers.
+ */
+record LoadTestSettings(
+        String label,
+        String profiles,
+        String jdbcUrl,
+        String jdbcUsername,
+        @JsonIgnore String jdbcPassword,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        double rentRatio,
+        Duration sweepInterval,
+        DataSetSpec dataSet,
+        Duration stripeLatency,
+        double stripeErrorRate,
+        Duration telegramLatency,
+        double telegramErrorRate) {
+
+    static LoadTestSettings fromSystemProperties() {
+        int virtualUsers = Integer.getInteger("loadtest.users", 32);
+        return new LoadTestSettings(
+                System.getProperty("loadtest.label", "loadtest"),
+                System.getProperty("loadtest.profiles", ""),
+                System.getProperty("loadtest.jdbc.url", ""),
+                System.getProperty("loadtest.jdbc.username", "sa"),
+                System.getProperty("loadtest.jdbc.password", ""),
+                virtualUsers,
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 30)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 120)),
+                doubleProperty("loadtest.rent-ratio", 0.25),
+                Duration.ofSeconds(Long.getLong("loadtest.sweep-interval-seconds", 30)),
+                DataSetSpec.fromSystemProperties("loadtest.")
+                        .withReservedCustomers(virtualUsers),
+                Duration.ofMillis(Long.getLong("loadtest.stripe.latency-ms", 300)),
+                doubleProperty("loadtest.stripe.error-rate", 0.0),
+                Duration.ofMillis(Long.getLong("loadtest.telegram.latency-ms", 100)),
+                doubleProperty("loadtest.telegram.error-rate", 0.0));
+    }
+
+    boolean usesH2() {
+        return jdbcUrl.isBlank();
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
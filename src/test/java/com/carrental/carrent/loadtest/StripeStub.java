@@ -0,0 +1,38 @@
+package com.carrental.carrent.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the Stripe API, enabled in the application through
+ * {@code stripe.api-base}. Only checkout session creation is implemented;
+ * the session URL ends with the session id, as Stripe's does.
+ */
+class StripeStub extends StubServer {
+    private static final String CHECKOUT_SESSIONS = "/v1/checkout/sessions";
+
+    private final AtomicLong sessions = new AtomicLong();
+
+    StripeStub(Duration latency, double errorRate) throws IOException {
+        super(latency, errorRate);
+    }
+
+    @Override
+    String respond(String path, String requestBody) {
+        if (!path.equals(CHECKOUT_SESSIONS)) {
+            return null;
+        }
+        String id = "cs_stub_" + sessions.incrementAndGet();
+        return """
+                {"id": "%s", "object": "checkout.session", "mode": "payment",
+                 "payment_status": "unpaid", "status": "open", "url": "%s/c/pay/%s"}"""
+                .formatted(id, baseUrl(), id);
+    }
+
+    @Override
+    String errorBody() {
+        return """
+                {"error": {"type": "api_error", "message": "Injected stub failure"}}""";
+    }
+}
@@ -0,0 +1,112 @@
+package com.carrental.carrent.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local HTTP stand-in for an external API. Each simulated call waits for
+ * the configured latency, jittered between half and one and a half times the
+ * value so percentiles are not flat, and fails with the configured
+ * probability. Subclasses only write the successful response bodies.
+ */
+abstract class StubServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Duration latency;
+    private final double errorRate;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong injectedFailures = new AtomicLong();
+
+    StubServer(Duration latency, double errorRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long calls() {
+        return calls.get();
+    }
+
+    long injectedFailures() {
+        return injectedFailures.get();
+    }
+
+    /**
+     * Returns the body of a successful response to a call on {@code path}, or
+     * {@code null} if the real API has no such endpoint.
+     */
+    abstract String respond(String path, String requestBody) throws InterruptedException;
+
+    abstract String errorBody();
+
+    /**
+     * Whether a call counts as an API call, with latency and failures; the
+     * Telegram long-polling loop, for one, does not.
+     */
+    boolean isSimulated(String path) {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8);
+            if (isSimulated(path)) {
+                calls.incrementAndGet();
+                pause();
+                if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    injectedFailures.incrementAndGet();
+                    send(exchange, 500, errorBody());
+                    return;
+                }
+            }
+            String body = respond(path, requestBody);
+            send(exchange, body == null ? 404 : 200, body == null ? errorBody() : body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, errorBody());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void pause() throws InterruptedException {
+        long millis = latency.toMillis();
+        if (millis > 0) {
+            Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
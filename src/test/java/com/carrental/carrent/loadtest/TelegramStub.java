@@ -0,0 +1,55 @@
+package com.carrental.carrent.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Stand-in for the Telegram Bot API, enabled in the application through
+ * {@code telegram.bot.api-url}. Bot API paths are {@code /bot<token>/<method>};
+ * {@code sendMessage} calls are simulated, while {@code getUpdates} answers
+ * with no updates after a second so the bot's polling loop neither spins nor
+ * counts as load.
+ */
+class TelegramStub extends StubServer {
+    private static final long POLL_MILLIS = 1_000;
+
+    TelegramStub(Duration latency, double errorRate) throws IOException {
+        super(latency, errorRate);
+    }
+
+    String apiUrl() {
+        return baseUrl() + "/bot";
+    }
+
+    @Override
+    boolean isSimulated(String path) {
+        return method(path).equals("sendmessage");
+    }
+
+    @Override
+    String respond(String path, String requestBody) throws InterruptedException {
+        return switch (method(path)) {
+            case "getupdates" -> {
+                Thread.sleep(POLL_MILLIS);
+                yield "{\"ok\": true, \"result\": []}";
+            }
+            case "sendmessage" -> """
+                    {"ok": true, "result": {"message_id": 1, "date": 0,
+                     "chat": {"id": 1, "type": "private"}}}""";
+            case "getme" -> """
+                    {"ok": true, "result": {"id": 1, "is_bot": true,
+                     "first_name": "Load test", "username": "loadtest_bot"}}""";
+            default -> "{\"ok\": true, \"result\": true}";
+        };
+    }
+
+    @Override
+    String errorBody() {
+        return "{\"ok\": false, \"error_code\": 500, \"description\": \"Injected stub failure\"}";
+    }
+
+    private static String method(String path) {
+        return path.substring(path.lastIndexOf('/') + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.model.CarType;
 import java.math.BigDecimal;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -135,6 +138,30 @@ class CarRepositoryTest {
         assertEquals(3, updatedCar.getInventory());
     }
 
+    @Test
+    @DisplayName("Inventory change - should bump the version on every flush")
+    void saveAndFlush_InventoryChange_ShouldBumpVersion() {
+        // Given
+        Car car = new Car();
+        car.setModel("Camry");
+        car.setBrand("Toyota");
+        car.setCarType(CarType.SEDAN);
+        car.setInventory(5);
+        car.setDailyFee(BigDecimal.valueOf(50.00));
+        Car savedCar = carRepository.saveAndFlush(car);
+        long initialVersion = savedCar.getVersion();
+
+        // When
+        Car locked = carRepository.findByIdForUpdate(savedCar.getId()).orElseThrow();
+        locked.setInventory(4);
+        carRepository.saveAndFlush(locked);
+        locked.setInventory(5);
+        carRepository.saveAndFlush(locked);
+
+        // Then
+        assertEquals(initialVersion + 2, locked.getVersion());
+    }
+
     @Test
     @DisplayName("Delete car by ID - should remove car from database")
     void deleteById_ExistingCar_ShouldDeleteCar() {
@@ -214,4 +241,37 @@ class CarRepositoryTest {
         assertTrue(allCars.stream().anyMatch(c -> c.getCarType() == CarType.SUV));
         assertTrue(allCars.stream().anyMatch(c -> c.getCarType() == CarType.HATCHBACK));
     }
+
+    @Test
+    @DisplayName("Find all DTOs - should project cars that are not deleted")
+    void findAllDtos_WithDeletedCar_ShouldSkipDeletedCar() {
+        // Given
+        Car kept = new Car();
+        kept.setModel("Camry");
+        kept.setBrand("Toyota");
+        kept.setCarType(CarType.SEDAN);
+        kept.setInventory(5);
+        kept.setDailyFee(BigDecimal.valueOf(50.00));
+
+        Car deleted = new Car();
+        deleted.setModel("Golf");
+        deleted.setBrand("Volkswagen");
+        deleted.setCarType(CarType.HATCHBACK);
+        deleted.setInventory(4);
+        deleted.setDailyFee(BigDecimal.valueOf(45.00));
+
+        carRepository.save(kept);
+        carRepository.save(deleted);
+        carRepository.deleteById(deleted.getId());
+
+        // When
+        Page<CarDto> page = carRepository.findAllDtos(PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, page.getTotalElements());
+        CarDto dto = page.getContent().get(0);
+        assertEquals("Camry", dto.getModel());
+        assertEquals(CarType.SEDAN, dto.getCarType());
+        assertEquals(5, dto.getInventory());
+    }
 }
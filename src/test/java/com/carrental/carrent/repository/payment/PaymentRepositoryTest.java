@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.carrental.carrent.dto.payment.PaymentDto;
 import com.carrental.carrent.model.Payment;
 import com.carrental.carrent.model.PaymentType;
 import com.carrental.carrent.model.Status;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -25,6 +27,9 @@ class PaymentRepositoryTest {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("Find by session ID - should return payment when session exists")
     void findBySessionId_ExistingSession_ShouldReturnPayment() {
@@ -101,8 +106,8 @@ class PaymentRepositoryTest {
     }
 
     @Test
-    @DisplayName("Find expired pending payments - should return only pending payments")
-    void findExpiredPendingPayments_WithPendingPayments_ShouldReturnPendingOnly() {
+    @DisplayName("Update status - should expire only pending payments in one statement")
+    void updateStatus_PendingToExpired_ShouldExpirePendingOnly() {
         // Given
         Payment pendingPayment = new Payment();
         pendingPayment.setSessionId("pending_session");
@@ -121,15 +126,18 @@ class PaymentRepositoryTest {
         paidPayment.setSessionUrl("https://stripe.com/paid");
 
         paymentRepository.save(pendingPayment);
-        paymentRepository.save(paidPayment);
+        paymentRepository.saveAndFlush(paidPayment);
 
         // When
-        List<Payment> expiredPayments = paymentRepository.findExpiredPendingPayments();
+        int updated = paymentRepository.updateStatus(Status.PENDING, Status.EXPIRED);
+        entityManager.clear();
 
         // Then
-        assertEquals(1, expiredPayments.size());
-        assertEquals(Status.PENDING, expiredPayments.get(0).getStatus());
-        assertEquals("pending_session", expiredPayments.get(0).getSessionId());
+        assertEquals(1, updated);
+        assertEquals(Status.EXPIRED,
+                paymentRepository.findBySessionId("pending_session").orElseThrow().getStatus());
+        assertEquals(Status.PAID,
+                paymentRepository.findBySessionId("paid_session").orElseThrow().getStatus());
     }
 
     @Test
@@ -176,4 +184,28 @@ class PaymentRepositoryTest {
         assertEquals(savedPayment.getId(), updatedPayment.getId());
         assertEquals(Status.PAID, updatedPayment.getStatus());
     }
+
+    @Test
+    @DisplayName("Find unpaid DTOs - should project every payment that is not paid")
+    void findUnpaidDtos_WithMixedStatuses_ShouldReturnUnpaidPayments() {
+        // Given
+        for (Status status : List.of(Status.PENDING, Status.EXPIRED, Status.PAID)) {
+            Payment payment = new Payment();
+            payment.setSessionId("session_" + status);
+            payment.setRentalId(1L);
+            payment.setAmountToPay(BigDecimal.valueOf(100.00));
+            payment.setStatus(status);
+            payment.setPaymentType(PaymentType.PAYMENT);
+            payment.setSessionUrl("https://stripe.com/" + status);
+            paymentRepository.save(payment);
+        }
+
+        // When
+        List<PaymentDto> unpaid = paymentRepository.findUnpaidDtos();
+
+        // Then
+        assertEquals(2, unpaid.size());
+        assertTrue(unpaid.stream().noneMatch(payment -> payment.getStatus() == Status.PAID));
+        assertTrue(unpaid.stream().allMatch(payment -> payment.getSessionUrl() != null));
+    }
 }
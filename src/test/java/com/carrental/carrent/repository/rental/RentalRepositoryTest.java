@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.model.Rental;
 import java.time.LocalDate;
 import java.util.List;
@@ -15,6 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -281,4 +285,69 @@ class RentalRepositoryTest {
         // Then
         assertEquals(2, allRentals.size());
     }
+
+    @Test
+    @DisplayName("Find response DTOs by user - should filter by status only when given")
+    void findResponseDtosByUser_WithStatus_ShouldFilterRentals() {
+        // Given
+        Rental active = new Rental();
+        active.setUserId(1L);
+        active.setCarId(1L);
+        active.setRentalDate(LocalDate.now());
+        active.setReturnDate(LocalDate.now().plusDays(7));
+
+        Rental returned = new Rental();
+        returned.setUserId(1L);
+        returned.setCarId(2L);
+        returned.setRentalDate(LocalDate.now().minusDays(10));
+        returned.setReturnDate(LocalDate.now().minusDays(5));
+        returned.setActualReturnDate(LocalDate.now().minusDays(5));
+
+        Rental otherUser = new Rental();
+        otherUser.setUserId(2L);
+        otherUser.setCarId(1L);
+        otherUser.setRentalDate(LocalDate.now());
+        otherUser.setReturnDate(LocalDate.now().plusDays(3));
+
+        rentalRepository.save(active);
+        rentalRepository.save(returned);
+        rentalRepository.save(otherUser);
+
+        // When
+        List<RentalResponseDto> all = rentalRepository.findResponseDtosByUser(1L, null);
+        List<RentalResponseDto> activeOnly = rentalRepository.findResponseDtosByUser(1L, true);
+        List<RentalResponseDto> returnedOnly =
+                rentalRepository.findResponseDtosByUser(1L, false);
+
+        // Then
+        assertEquals(2, all.size());
+        assertEquals(1, activeOnly.size());
+        assertEquals(active.getId(), activeOnly.get(0).getId());
+        assertEquals(1, returnedOnly.size());
+        assertEquals(returned.getActualReturnDate(), returnedOnly.get(0).getActualReturnDate());
+        assertEquals(2L, returnedOnly.get(0).getCarId());
+    }
+
+    @Test
+    @DisplayName("Find response DTOs by user - should page and sort without loading entities")
+    void findResponseDtosByUser_WithPageable_ShouldReturnSortedPage() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            Rental rental = new Rental();
+            rental.setUserId(1L);
+            rental.setCarId(1L);
+            rental.setRentalDate(LocalDate.now().minusDays(i));
+            rental.setReturnDate(LocalDate.now().plusDays(1));
+            rentalRepository.save(rental);
+        }
+
+        // When
+        Page<RentalResponseDto> page = rentalRepository.findResponseDtosByUser(1L, null,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "rentalDate")));
+
+        // Then
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertEquals(LocalDate.now(), page.getContent().get(0).getRentalDate());
+    }
 }
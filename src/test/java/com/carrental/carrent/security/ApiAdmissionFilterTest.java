@@ -0,0 +1,153 @@
+package com.carrental.carrent.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.carrental.carrent.model.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ApiAdmissionFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Filter - should answer 429 once a customer exceeds their rate")
+    void doFilter_CustomerOverRate_ShouldReturnTooManyRequests() throws Exception {
+        // Given
+        ApiAdmissionFilter filter = filter(2, 10);
+        authenticate("alice@example.com", Role.CUSTOMER);
+        perform(filter, "/cars");
+        perform(filter, "/cars");
+
+        // When
+        MockHttpServletResponse response = perform(filter, "/cars");
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get("api.admission.rejected")
+                .tag("reason", "rate-limit").counter().count());
+
+        authenticate("bob@example.com", Role.CUSTOMER);
+        assertEquals(200, perform(filter, "/cars").getStatus());
+    }
+
+    @Test
+    @DisplayName("Filter - should give managers their own, larger rate")
+    void doFilter_Manager_ShouldUseManagerRate() throws Exception {
+        // Given
+        ApiAdmissionFilter filter = filter(1, 10);
+        authenticate("manager@example.com", Role.MANAGER);
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform(filter, "/rentals").getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Filter - should answer 503 when no request slot is free")
+    void doFilter_NoFreeSlot_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        ApiAdmissionFilter filter = filter(10, 1);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        FilterChain holdingChain = (request, response) ->
+                nested[0] = perform(filter, "/cars");
+
+        // When
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        filter.doFilter(request, new MockHttpServletResponse(), holdingChain);
+
+        // Then
+        assertEquals(503, nested[0].getStatus());
+        assertEquals("1", nested[0].getHeader("Retry-After"));
+        assertEquals(200, perform(filter, "/cars").getStatus());
+    }
+
+    @Test
+    @DisplayName("Filter - should never limit actuator endpoints")
+    void doFilter_Actuator_ShouldNotLimit() throws Exception {
+        // Given
+        ApiAdmissionFilter filter = filter(1, 1);
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform(filter, "/actuator/health").getStatus());
+        }
+        assertEquals(200, perform(filter, "/cars").getStatus());
+        assertEquals(429, perform(filter, "/cars").getStatus());
+    }
+
+    @Test
+    @DisplayName("Filter - should not shrink the limit for slow latency-excluded routes")
+    void doFilter_SlowExcludedRoute_ShouldKeepLimit() throws Exception {
+        // Given
+        ApiAdmissionFilter filter = filter(100, 10, Duration.ofMillis(1));
+        FilterChain slowChain = (request, response) -> sleep(5);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("POST", "/payments"),
+                    new MockHttpServletResponse(), slowChain);
+        }
+
+        // Then
+        assertEquals(10, limit());
+        filter.doFilter(new MockHttpServletRequest("GET", "/cars"),
+                new MockHttpServletResponse(), slowChain);
+        assertEquals(9, limit());
+    }
+
+    private ApiAdmissionFilter filter(int capacity, int concurrency) {
+        return filter(capacity, concurrency, Duration.ofSeconds(1));
+    }
+
+    private ApiAdmissionFilter filter(int capacity, int concurrency, Duration latencyThreshold) {
+        Duration minute = Duration.ofMinutes(1);
+        return new ApiAdmissionFilter(true, capacity * 10, minute, capacity, minute, capacity,
+                minute, 1024, true, concurrency, 1, concurrency, latencyThreshold, 0.9, 1,
+                List.of("/auth", "/payments"), new ObjectMapper(), meterRegistry);
+    }
+
+    private double limit() {
+        return meterRegistry.get("api.admission.limit").gauge().value();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void authenticate(String email, Role role) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of(role)));
+    }
+
+    private static MockHttpServletResponse perform(ApiAdmissionFilter filter, String path)
+            throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,123 @@
+package com.carrental.carrent.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.carrental.carrent.exception.TooManyRequestsException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+    private static final String PASSWORD = "Password123";
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Encode and matches - should hash and check through the executor")
+    void encodeAndMatches_ShouldRunOnExecutor() {
+        // Given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), executor, 1);
+
+        // When
+        String hash = encoder.encode(PASSWORD);
+
+        // Then
+        assertTrue(encoder.matches(PASSWORD, hash));
+        assertFalse(encoder.matches("WrongPassword", hash));
+    }
+
+    @Test
+    @DisplayName("Matches - should reject with 429 when the queue is full")
+    void matches_QueueFull_ShouldThrowTooManyRequests() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                blockingEncoder(started, release), executor, 3);
+        Thread running = new Thread(() -> encoder.matches(PASSWORD, "hash"));
+        Thread queued = new Thread(() -> encoder.matches(PASSWORD, "hash"));
+        running.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queued.start();
+        while (executor.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> encoder.matches(PASSWORD, "hash"));
+
+        // Then
+        assertEquals(3, exception.getRetryAfterSeconds());
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    @Test
+    @DisplayName("Upgrade encoding - should upgrade hashes with a lower cost only")
+    void upgradeEncoding_LowerCost_ShouldReturnTrue() {
+        // Given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(5), executor, 1);
+
+        // When & Then
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode(PASSWORD)));
+    }
+
+    @Test
+    @DisplayName("Calibrate - should stay within the configured strength bounds")
+    void calibrate_ShouldStayWithinBounds() {
+        assertEquals(4, BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 6));
+        assertEquals(6, BCryptStrengthCalibrator.calibrate(Duration.ofMinutes(1), 4, 6));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(100), 6, 4));
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started,
+                                                   CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.carrental.carrent.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.carrental.carrent.repository.user.UserRepository;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Might be registered - should be true for every loaded or added email")
+    void mightBeRegistered_KnownEmails_ShouldReturnTrue() {
+        // Given
+        when(userRepository.streamAllEmails())
+                .thenReturn(Stream.of("alice@example.com", "bob@example.com"));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, 1_000, 0.01);
+
+        // When
+        filter.load();
+        filter.add("dave@example.com");
+
+        // Then
+        assertTrue(filter.mightBeRegistered("ALICE@example.com"));
+        assertTrue(filter.mightBeRegistered("bob@example.com"));
+        assertTrue(filter.mightBeRegistered("dave@example.com"));
+    }
+
+    @Test
+    @DisplayName("Might be registered - should rarely be true for new emails")
+    void mightBeRegistered_NewEmails_ShouldMostlyReturnFalse() {
+        // Given
+        when(userRepository.streamAllEmails()).thenReturn(
+                IntStream.range(0, 1_000).mapToObj(i -> "user" + i + "@example.com"));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, 1_000, 0.01);
+        filter.load();
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightBeRegistered("new" + i + "@example.com"))
+                .count();
+
+        // Then
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Might be registered - should be true for any email until loaded")
+    void mightBeRegistered_NotLoaded_ShouldReturnTrue() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, 1_000, 0.01);
+
+        assertTrue(filter.mightBeRegistered("anyone@example.com"));
+    }
+
+    @Test
+    @DisplayName("Load - should stay unloaded when the emails cannot be read")
+    void load_QueryFails_ShouldStayUnloaded() {
+        // Given
+        when(userRepository.streamAllEmails())
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, 1_000, 0.01);
+
+        // When
+        filter.load();
+
+        // Then
+        assertTrue(filter.mightBeRegistered("anyone@example.com"));
+    }
+}
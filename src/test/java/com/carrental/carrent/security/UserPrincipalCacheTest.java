@@ -0,0 +1,94 @@
+package com.carrental.carrent.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.carrental.carrent.event.UserChangedEvent;
+import com.carrental.carrent.model.Role;
+import com.carrental.carrent.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserPrincipalCacheTest {
+    @Test
+    @DisplayName("Get - should return a copy of the cached user, ignoring email case")
+    void get_CachedUser_ShouldReturnCopy() {
+        // Given
+        UserPrincipalCache cache = cache(10, Duration.ofMinutes(1));
+        User user = user(1L, "alice@example.com");
+        cache.put(user);
+
+        // When
+        User cached = cache.get("Alice@Example.com");
+
+        // Then
+        assertNotSame(user, cached);
+        assertEquals(1L, cached.getId());
+        assertEquals("hash", cached.getPassword());
+        assertEquals(Role.CUSTOMER, cached.getRole());
+    }
+
+    @Test
+    @DisplayName("Put - should evict the least recently used user beyond the size limit")
+    void put_OverMaxSize_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        UserPrincipalCache cache = cache(2, Duration.ofMinutes(1));
+        cache.put(user(1L, "a@example.com"));
+        cache.put(user(2L, "b@example.com"));
+        cache.get("a@example.com");
+
+        // When
+        cache.put(user(3L, "c@example.com"));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b@example.com"));
+        assertEquals(1L, cache.get("a@example.com").getId());
+    }
+
+    @Test
+    @DisplayName("Get - should drop entries older than the time to live")
+    void get_Expired_ShouldReturnNull() throws InterruptedException {
+        // Given
+        UserPrincipalCache cache = cache(10, Duration.ofMillis(1));
+        cache.put(user(1L, "alice@example.com"));
+        Thread.sleep(5);
+
+        // When & Then
+        assertNull(cache.get("alice@example.com"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("On user changed - should evict the previous and the new email")
+    void onUserChanged_ShouldEvictBothEmails() {
+        // Given
+        UserPrincipalCache cache = cache(10, Duration.ofMinutes(1));
+        cache.put(user(1L, "old@example.com"));
+        cache.put(user(2L, "new@example.com"));
+
+        // When
+        cache.onUserChanged(new UserChangedEvent(1L, "old@example.com", "new@example.com"));
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    private static UserPrincipalCache cache(int maxSize, Duration ttl) {
+        return new UserPrincipalCache(maxSize, ttl, new SimpleMeterRegistry());
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setPassword("hash");
+        user.setRole(Role.CUSTOMER);
+        return user;
+    }
+}
@@ -0,0 +1,127 @@
+package com.carrental.carrent.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Try acquire - should refuse requests above the limit")
+    void tryAcquire_AtLimit_ShouldRefuse() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 4);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Release slow - should cut the limit once per threshold period")
+    void release_SlowResponses_ShouldDecreaseOncePerPeriod() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 5, 40);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.release(SLOW);
+        limiter.release(SLOW);
+        clock.addAndGet(THRESHOLD.toNanos());
+        limiter.release(SLOW);
+
+        // Then
+        assertEquals(16, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Release slow - should not go below the minimum limit")
+    void release_SlowResponses_ShouldStopAtMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 3, 8);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW);
+            clock.addAndGet(THRESHOLD.toNanos());
+        }
+
+        // Then
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Release fast - should grow the limit only while it is in use")
+    void release_FastResponses_ShouldIncreaseWhenBusy() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        // Then
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST);
+            limiter.release(FAST);
+            limiter.release(FAST);
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Release without latency - should free the slot and keep the limit")
+    void release_WithoutLatency_ShouldKeepLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 8);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // When
+        limiter.release();
+        limiter.release();
+
+        // Then
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Constructor - should reject inconsistent limits")
+    void constructor_InvalidLimits_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(10, 20, 30));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 20, THRESHOLD, 1.5));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, THRESHOLD, 0.9, clock::get);
+    }
+}
@@ -0,0 +1,78 @@
+package com.carrental.carrent.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketSketchTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(-5 * SECOND);
+
+    @Test
+    @DisplayName("Try acquire - should allow a burst of capacity, then reject")
+    void tryAcquire_BurstAboveCapacity_ShouldReject() {
+        // Given
+        TokenBucketSketch buckets = new TokenBucketSketch(3, Duration.ofSeconds(3), 1024,
+                clock::get);
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("user@example.com"));
+        }
+        assertEquals(SECOND, buckets.tryAcquire("user@example.com"));
+        assertEquals(0, buckets.tryAcquire("other@example.com"));
+    }
+
+    @Test
+    @DisplayName("Try acquire - should refill one token per interval")
+    void tryAcquire_AfterInterval_ShouldAllowAgain() {
+        // Given
+        TokenBucketSketch buckets = new TokenBucketSketch(2, Duration.ofSeconds(2), 1024,
+                clock::get);
+        buckets.tryAcquire("key");
+        buckets.tryAcquire("key");
+        assertTrue(buckets.tryAcquire("key") > 0);
+
+        // When
+        clock.addAndGet(SECOND);
+
+        // Then
+        assertEquals(0, buckets.tryAcquire("key"));
+        assertTrue(buckets.tryAcquire("key") > 0);
+
+        clock.addAndGet(10 * SECOND);
+        assertEquals(0, buckets.tryAcquire("key"));
+        assertEquals(0, buckets.tryAcquire("key"));
+        assertTrue(buckets.tryAcquire("key") > 0);
+    }
+
+    @Test
+    @DisplayName("Try acquire - should not take a token from either row when rejected")
+    void tryAcquire_Rejected_ShouldNotConsume() {
+        // Given
+        TokenBucketSketch buckets = new TokenBucketSketch(1, Duration.ofSeconds(1), 1,
+                clock::get);
+        assertEquals(0, buckets.tryAcquire("key"));
+
+        // When
+        long wait = buckets.tryAcquire("key");
+        clock.addAndGet(wait);
+
+        // Then
+        assertEquals(SECOND, wait);
+        assertEquals(0, buckets.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("Constructor - should reject an empty bucket")
+    void constructor_ZeroCapacity_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketSketch(0, Duration.ofSeconds(1), 16));
+    }
+}
@@ -0,0 +1,127 @@
+package com.carrental.carrent.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarImportResultDto;
+import com.carrental.carrent.event.CarsImportedEvent;
+import com.carrental.carrent.repository.car.CarBatchRepository;
+import com.carrental.carrent.service.impl.CarBulkServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class CarBulkServiceTest {
+    private static final String CSV_HEADER = "brand,model,carType,inventory,dailyFee\n";
+
+    @Mock
+    private CarBatchRepository carBatchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CarBulkServiceImpl carBulkService;
+
+    @BeforeEach
+    void setUp() {
+        carBulkService = new CarBulkServiceImpl(carBatchRepository, eventPublisher,
+                new ObjectMapper(), 2, 1);
+    }
+
+    @Test
+    @DisplayName("Import CSV - should insert valid rows in batches of the configured size")
+    void importCsv_FiveRows_ShouldInsertThreeBatches() throws Exception {
+        // Given
+        String body = CSV_HEADER + "Kia,Ceed,HATCHBACK,4,35.00\n".repeat(5);
+
+        // When
+        CarImportResultDto result = carBulkService.importCsv(stream(body));
+
+        // Then
+        verify(carBatchRepository, times(3)).insertAll(anyList());
+        verify(eventPublisher).publishEvent(new CarsImportedEvent(result));
+        assertEquals(5, result.received());
+        assertEquals(5, result.imported());
+        assertEquals(0, result.rejected());
+    }
+
+    @Test
+    @DisplayName("Import CSV - should cap reported errors but count every rejection")
+    void importCsv_InvalidRows_ShouldCapErrors() throws Exception {
+        // Given
+        String body = CSV_HEADER
+                + "Kia,Ceed,HATCHBACK,-1,35.00\n"
+                + "Kia,Ceed,HATCHBACK,4,0\n";
+
+        // When
+        CarImportResultDto result = carBulkService.importCsv(stream(body));
+
+        // Then
+        assertEquals(2, result.rejected());
+        assertEquals(1, result.errors().size());
+        assertEquals(2, result.errors().get(0).line());
+    }
+
+    @Test
+    @DisplayName("Import CSV - should keep commas inside quoted fields")
+    void importCsv_QuotedComma_ShouldKeepField() throws Exception {
+        // Given
+        String body = CSV_HEADER
+                + "Tesla,\"Model S, Plaid\",SEDAN,1,120.00\n"
+                + "Tesla,\"Model 3,SEDAN,1,90.00\n";
+        List<String> models = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<CarDto> batch = invocation.getArgument(0);
+            batch.forEach(car -> models.add(car.getModel()));
+            return null;
+        }).when(carBatchRepository).insertAll(anyList());
+
+        // When
+        CarImportResultDto result = carBulkService.importCsv(stream(body));
+
+        // Then
+        assertEquals(List.of("Model S, Plaid"), models);
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals("Unterminated quoted field", result.errors().get(0).message());
+    }
+
+    @Test
+    @DisplayName("Import NDJSON - should reject every line of a failed batch")
+    void importNdjson_BatchFails_ShouldRejectBatchLines() throws Exception {
+        // Given
+        String line = "{\"brand\":\"Kia\",\"model\":\"Ceed\",\"carType\":\"SEDAN\","
+                + "\"inventory\":1,\"dailyFee\":10}\n";
+        doThrow(new DataIntegrityViolationException("duplicate"))
+                .when(carBatchRepository).insertAll(anyList());
+
+        // When
+        CarImportResultDto result = carBulkService.importNdjson(stream(line + line));
+
+        // Then
+        verify(carBatchRepository).insertAll(anyList());
+        assertEquals(0, result.imported());
+        assertEquals(2, result.rejected());
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
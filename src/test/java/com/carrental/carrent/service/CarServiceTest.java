@@ -6,22 +6,30 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.carrental.carrent.dto.car.CarDto;
+import com.carrental.carrent.dto.car.CarQuoteDto;
+import com.carrental.carrent.event.CarAddedEvent;
 import com.carrental.carrent.mapper.CarMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.model.CarType;
 import com.carrental.carrent.repository.car.CarRepository;
 import com.carrental.carrent.service.impl.CarServiceImpl;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import com.carrental.carrent.service.pricing.PricingRules;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +44,12 @@ class CarServiceTest {
     @Mock
     private CarMapper carMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine(PricingRules.standard());
+
     @InjectMocks
     private CarServiceImpl carService;
 
@@ -65,6 +79,7 @@ class CarServiceTest {
 
         verify(carRepository, times(1)).save(car);
         verify(carMapper, times(1)).toDto(any(Car.class));
+        verify(eventPublisher).publishEvent(new CarAddedEvent(car.getId()));
     }
 
     private CarDto createValidCarDto() {
@@ -103,29 +118,14 @@ class CarServiceTest {
     @DisplayName("Find all cars - should return page of car DTOs")
     void findAll_WithPageable_ShouldReturnPageOfCarDtos() {
         // Given
-
-        Car car = new Car();
-        car.setId(1L);
-        car.setModel("Camry");
-        car.setBrand("Toyota");
-        car.setCarType(CarType.SEDAN);
-        car.setInventory(5);
-        car.setDailyFee(BigDecimal.valueOf(50.00));
-
-        CarDto carDto = new CarDto();
-        carDto.setId(1L);
-        carDto.setModel("Camry");
-        carDto.setBrand("Toyota");
-        carDto.setCarType(CarType.SEDAN);
-        carDto.setInventory(5);
-        carDto.setDailyFee(BigDecimal.valueOf(50.00));
+        CarDto carDto = new CarDto(1L, "Camry", "Toyota", CarType.SEDAN, 5,
+                BigDecimal.valueOf(50.00));
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<Car> carPage = new PageImpl<>(java.util.List.of(car), pageable, 1);
+        Page<CarDto> carPage = new PageImpl<>(java.util.List.of(carDto), pageable, 1);
 
-        when(carRepository.findAll(pageable)).thenReturn(carPage);
-        when(carMapper.toDto(car)).thenReturn(carDto);
+        when(carRepository.findAllDtos(pageable)).thenReturn(carPage);
 
         // When
         Page<CarDto> result = carService.findAll(pageable);
@@ -134,8 +134,8 @@ class CarServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals("Camry", result.getContent().get(0).getModel());
-        verify(carRepository).findAll(pageable);
-        verify(carMapper).toDto(car);
+        verify(carRepository).findAllDtos(pageable);
+        verifyNoInteractions(carMapper);
     }
 
     @Test
@@ -257,4 +257,35 @@ class CarServiceTest {
         // Then
         verify(carRepository).deleteById(carId);
     }
+
+    @Test
+    @DisplayName("Quote - should price rental with the current pricing rules")
+    void quote_ExistingCar_ShouldReturnPrice() {
+        // Given
+        Car car = createCarFromDto(createValidCarDto());
+        LocalDate from = LocalDate.of(2024, 6, 3);
+        LocalDate to = from.plusDays(4);
+
+        when(carRepository.findById(1L)).thenReturn(Optional.of(car));
+
+        // When
+        CarQuoteDto quote = carService.quote(1L, from, to);
+
+        // Then
+        assertEquals(4, quote.days());
+        assertEquals(0, car.getDailyFee().multiply(BigDecimal.valueOf(4))
+                .compareTo(quote.totalPrice()));
+        verify(carRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Quote - should reject return date before rental date")
+    void quote_ReturnBeforeRental_ShouldThrowException() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 6, 3);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> carService.quote(1L, from, from.minusDays(1)));
+    }
 }
@@ -0,0 +1,256 @@
+package com.carrental.carrent.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.carrental.carrent.dto.analytics.CarCount;
+import com.carrental.carrent.dto.analytics.CarRevenue;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.DailyFleetStat;
+import com.carrental.carrent.model.Rental;
+import com.carrental.carrent.repository.analytics.DailyFleetStatRepository;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.payment.PaymentRepository;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.service.analytics.DailyFleetStatInserter;
+import com.carrental.carrent.service.impl.FleetAnalyticsServiceImpl;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class FleetAnalyticsServiceTest {
+
+    @Mock
+    private DailyFleetStatRepository statRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private DailyFleetStatInserter statInserter;
+
+    @InjectMocks
+    private FleetAnalyticsServiceImpl fleetAnalyticsService;
+
+    @Test
+    @DisplayName("Record rental started - should update existing row for today")
+    void recordRentalStarted_ExistingRow_ShouldApplyDeltas() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Car car = createCar();
+        Rental rental = createRental(today);
+
+        when(statRepository.existsByStatDateAndCarId(today, 1L)).thenReturn(true);
+
+        // When
+        fleetAnalyticsService.recordRentalStarted(rental, car);
+
+        // Then
+        verify(statRepository).incrementRentalsStarted(1L, today);
+        verify(statRepository).addRentedUnits(1L, today, today, 1);
+        verify(statInserter, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Record rental started - should not count future rentals as rented yet")
+    void recordRentalStarted_FutureRental_ShouldOnlyCountStart() {
+        // Given
+        LocalDate future = LocalDate.now().plusDays(3);
+        Car car = createCar();
+        Rental rental = createRental(future);
+
+        when(statRepository.existsByStatDateAndCarId(future, 1L)).thenReturn(false);
+        when(rentalRepository.countActiveOn(anyLong(), any())).thenReturn(0L);
+
+        // When
+        fleetAnalyticsService.recordRentalStarted(rental, car);
+
+        // Then
+        verify(statInserter).insert(any(DailyFleetStat.class));
+        verify(statRepository).incrementRentalsStarted(1L, future);
+        verify(statRepository, never()).addRentedUnits(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Record rental returned - should seed a missing row as it was before the return")
+    void recordRentalReturned_MissingRow_ShouldSeedWithoutCommittedReturn() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Car car = createCar();
+        Rental rental = createRental(today.minusDays(3));
+        rental.setActualReturnDate(today);
+
+        when(statRepository.existsByStatDateAndCarId(today, 1L)).thenReturn(false, true);
+        when(rentalRepository.countActiveOn(1L, today)).thenReturn(0L);
+
+        // When
+        fleetAnalyticsService.recordRentalReturned(rental, car, today);
+
+        // Then
+        ArgumentCaptor<DailyFleetStat> captor = ArgumentCaptor.forClass(DailyFleetStat.class);
+        verify(statInserter).insert(captor.capture());
+        assertEquals(1, captor.getValue().getRentedUnits());
+        verify(statRepository).addRentedUnits(1L, today, today, -1);
+        verify(statRepository).addCompletedRental(1L, today, 3);
+    }
+
+    @Test
+    @DisplayName("Record rental started - should apply the delta to a row created concurrently")
+    void recordRentalStarted_RowCreatedConcurrently_ShouldApplyDeltas() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Car car = createCar();
+        Rental rental = createRental(today);
+
+        when(statRepository.existsByStatDateAndCarId(today, 1L)).thenReturn(false, true);
+        doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .when(statInserter).insert(any(DailyFleetStat.class));
+
+        // When
+        fleetAnalyticsService.recordRentalStarted(rental, car);
+
+        // Then
+        verify(statRepository).addRentedUnits(1L, today, today, 1);
+        verify(statRepository).incrementRentalsStarted(1L, today);
+    }
+
+    @Test
+    @DisplayName("Record rental started - should seed past days with the fleet size recorded then")
+    void recordRentalStarted_PastDay_ShouldUseRecordedFleetSize() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        Car car = createCar();
+        Rental rental = createRental(yesterday);
+        DailyFleetStat recorded = new DailyFleetStat();
+        recorded.setAvailableUnits(7);
+
+        when(statRepository.existsByStatDateAndCarId(yesterday, 1L)).thenReturn(false, true);
+        when(statRepository.existsByStatDateAndCarId(today, 1L)).thenReturn(false);
+        when(statRepository.findFirstByCarIdAndStatDateBeforeOrderByStatDateDesc(1L, yesterday))
+                .thenReturn(Optional.of(recorded));
+        when(rentalRepository.countByCarIdAndActualReturnDateIsNull(1L)).thenReturn(2L);
+
+        // When
+        fleetAnalyticsService.recordRentalStarted(rental, car);
+
+        // Then
+        ArgumentCaptor<DailyFleetStat> captor = ArgumentCaptor.forClass(DailyFleetStat.class);
+        verify(statInserter, times(2)).insert(captor.capture());
+        assertEquals(7, captor.getAllValues().get(0).getAvailableUnits());
+        assertEquals(5, captor.getAllValues().get(1).getAvailableUnits());
+    }
+
+    @Test
+    @DisplayName("Reconcile - should rebuild rows from rentals and payments")
+    @SuppressWarnings("unchecked")
+    void reconcile_SingleDay_ShouldRebuildRows() {
+        // Given
+        LocalDate day = LocalDate.now();
+        Car car = createCar();
+        Rental returned = createRental(day.minusDays(4));
+        returned.setActualReturnDate(day);
+
+        when(carRepository.findAll()).thenReturn(List.of(car));
+        when(rentalRepository.countUnreturnedByCar())
+                .thenReturn(List.of(new CarCount(1L, 2L)));
+        when(rentalRepository.countActiveByCarOn(day))
+                .thenReturn(List.of(new CarCount(1L, 2L)));
+        when(rentalRepository.countStartedByCarOn(day))
+                .thenReturn(List.of(new CarCount(1L, 1L)));
+        when(rentalRepository.findByActualReturnDate(day)).thenReturn(List.of(returned));
+        when(paymentRepository.sumPaidByCarForRentalDate(day))
+                .thenReturn(List.of(new CarRevenue(1L, BigDecimal.valueOf(120))));
+
+        // When
+        fleetAnalyticsService.reconcile(day, day);
+
+        // Then
+        ArgumentCaptor<List<DailyFleetStat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statRepository).deleteByStatDate(day);
+        verify(statRepository).saveAll(captor.capture());
+        DailyFleetStat stat = captor.getValue().get(0);
+        assertEquals(2, stat.getRentedUnits());
+        assertEquals(5, stat.getAvailableUnits());
+        assertEquals(1, stat.getRentalsStarted());
+        assertEquals(1, stat.getRentalsCompleted());
+        assertEquals(4, stat.getCompletedRentalDays());
+        assertEquals(BigDecimal.valueOf(120), stat.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Reconcile - should keep the fleet size recorded for a past day")
+    @SuppressWarnings("unchecked")
+    void reconcile_PastDay_ShouldKeepRecordedFleetSize() {
+        // Given
+        LocalDate day = LocalDate.now().minusDays(10);
+        Car car = createCar();
+        DailyFleetStat recorded = new DailyFleetStat();
+        recorded.setCarId(1L);
+        recorded.setAvailableUnits(8);
+
+        when(carRepository.findAll()).thenReturn(List.of(car));
+        when(statRepository.findLatestByCarOnOrBefore(day)).thenReturn(List.of(recorded));
+
+        // When
+        fleetAnalyticsService.reconcile(day, day);
+
+        // Then
+        ArgumentCaptor<List<DailyFleetStat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statRepository).saveAll(captor.capture());
+        assertEquals(8, captor.getValue().get(0).getAvailableUnits());
+    }
+
+    @Test
+    @DisplayName("Get utilization - should reject inverted date range")
+    void getUtilizationByCar_InvertedRange_ShouldThrowException() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> fleetAnalyticsService.getUtilizationByCar(today, today.minusDays(1)));
+    }
+
+    private Car createCar() {
+        Car car = new Car();
+        car.setId(1L);
+        car.setCarType(CarType.SEDAN);
+        car.setInventory(3);
+        car.setDailyFee(BigDecimal.valueOf(50.00));
+        return car;
+    }
+
+    private Rental createRental(LocalDate rentalDate) {
+        Rental rental = new Rental();
+        rental.setId(1L);
+        rental.setCarId(1L);
+        rental.setUserId(1L);
+        rental.setRentalDate(rentalDate);
+        rental.setReturnDate(rentalDate.plusDays(5));
+        return rental;
+    }
+}
@@ -0,0 +1,135 @@
+package com.carrental.carrent.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.carrental.carrent.config.SchedulingConfig;
+import com.carrental.carrent.config.TestConfig;
+import com.carrental.carrent.repository.scheduling.JobLeaseRepository;
+import com.carrental.carrent.service.scheduling.JobLeaseManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Two lease managers with different owners share one database, standing in
+ * for two application replicas.
+ */
+@SpringBootTest
+@Import(TestConfig.class)
+class JobLeaseManagerTest {
+    private static final String JOB = "lease-test-job";
+    private static final long TTL_MS = 2000;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    @Qualifier(SchedulingConfig.LEASE_HEARTBEAT_SCHEDULER)
+    private TaskScheduler heartbeatScheduler;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    @Qualifier(SchedulingConfig.CLUSTERED_JOB_SCHEDULER)
+    private TaskScheduler clusteredJobScheduler;
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteById(JOB);
+    }
+
+    @Test
+    @DisplayName("Try acquire - should let only one node hold the lease")
+    void tryAcquire_TwoNodes_ShouldGrantOneLease() {
+        JobLeaseManager nodeA = node("node-a");
+        JobLeaseManager nodeB = node("node-b");
+
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ZERO));
+        assertFalse(nodeB.tryAcquire(JOB, Duration.ZERO));
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Try acquire - should let another node take over an expired lease")
+    void tryAcquire_LeaseExpired_ShouldTakeOver() throws InterruptedException {
+        JobLeaseManager nodeA = node("node-a");
+        JobLeaseManager nodeB = node("node-b");
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ZERO));
+
+        Thread.sleep(TTL_MS + 300);
+
+        assertTrue(nodeB.tryAcquire(JOB, Duration.ZERO));
+        assertFalse(nodeA.heartbeat(JOB));
+    }
+
+    @Test
+    @DisplayName("Heartbeat - should keep the lease beyond its original expiry")
+    void heartbeat_RunningJob_ShouldExtendLease() throws InterruptedException {
+        JobLeaseManager nodeA = node("node-a");
+        JobLeaseManager nodeB = node("node-b");
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ZERO));
+
+        Thread.sleep(TTL_MS / 2);
+        assertTrue(nodeA.heartbeat(JOB));
+        Thread.sleep(TTL_MS / 2 + 300);
+
+        assertFalse(nodeB.tryAcquire(JOB, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Release - should free the lease for other nodes")
+    void release_HeldLease_ShouldAllowOtherNode() {
+        JobLeaseManager nodeA = node("node-a");
+        JobLeaseManager nodeB = node("node-b");
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ofMinutes(5)));
+
+        nodeA.release(JOB);
+
+        assertTrue(nodeB.tryAcquire(JOB, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Heartbeat - should keep the lease while every job thread is busy")
+    void startHeartbeat_JobThreadsBusy_ShouldExtendLease() throws InterruptedException {
+        JobLeaseManager nodeA = node("node-a");
+        JobLeaseManager nodeB = node("node-b");
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            taskScheduler.schedule(() -> await(done), Instant.now());
+            clusteredJobScheduler.schedule(() -> await(done), Instant.now());
+        }
+        assertTrue(nodeA.tryAcquire(JOB, Duration.ZERO));
+
+        Runnable stop = nodeA.startHeartbeat(JOB);
+        try {
+            Thread.sleep(TTL_MS + 300);
+
+            assertFalse(nodeB.tryAcquire(JOB, Duration.ZERO));
+        } finally {
+            stop.run();
+            done.countDown();
+        }
+    }
+
+    private JobLeaseManager node(String owner) {
+        return new JobLeaseManager(jobLeaseRepository, heartbeatScheduler, owner, 100, TTL_MS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.carrental.carrent.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.carrental.carrent.config.TestConfig;
+import com.carrental.carrent.event.FineAppliedEvent;
+import com.carrental.carrent.mapper.CarMapper;
+import com.carrental.carrent.mapper.RentalMapper;
+import com.carrental.carrent.mapper.UserMapper;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.service.overdue.OverdueRentalTracker;
+import com.carrental.carrent.service.telegram.OverdueAlertListener;
+import com.carrental.carrent.service.telegram.TelegramNotificationService;
+import com.carrental.carrent.support.QueryBudget;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * SQL statement budgets for the scheduled jobs and the work they trigger on
+ * the calling thread. Budgets are written per processed row so that a job
+ * whose reads grow with the number of rows fails here; only the writes each
+ * row really needs are allowed to scale.
+ */
+@SpringBootTest
+@Import(TestConfig.class)
+@Sql(scripts = {
+        "classpath:database/delete-data-from-tables.sql",
+        "classpath:database/query-budget/add-query-budget-data.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/delete-data-from-tables.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class JobQueryBudgetTest {
+    private static final int OVERDUE_RENTALS = 3;
+    private static final int CARS = 4;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OverdueRentalTracker overdueRentalTracker;
+
+    @Autowired
+    private FleetAnalyticsService fleetAnalyticsService;
+
+    @Autowired
+    private PricingRuleService pricingRuleService;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private RentalMapper rentalMapper;
+
+    @Autowired
+    private CarMapper carMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryBudget queryBudget;
+
+    @BeforeEach
+    void setUp() {
+        queryBudget = new QueryBudget(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Payment expiry - should expire all pending payments in one statement")
+    void checkExpiredPayments_ShouldUseSingleStatement() throws Exception {
+        queryBudget.assertAtMost(1, "checkExpiredPayments",
+                paymentService::checkExpiredPayments);
+    }
+
+    @Test
+    @DisplayName("Overdue fines - should load rentals and cars once, then claim and insert")
+    void checkOverdueRentals_ShouldNotLoadCarsPerRental() throws Exception {
+        // rentals and their cars once, then a claim and a fine insert per rental
+        queryBudget.assertAtMost(2 + 2 * OVERDUE_RENTALS, "checkOverdueRentals",
+                paymentService::checkOverdueRentals);
+    }
+
+    @Test
+    @DisplayName("Overdue wheel - should stay within a constant budget per fired rental")
+    void fireOverdue_ShouldStayWithinBudgetPerRental() throws Exception {
+        overdueRentalTracker.reload();
+        int[] fired = new int[1];
+
+        // rentals and cars loaded once, then a claim and a fine insert per rental
+        queryBudget.assertAtMost(2 + 2 * OVERDUE_RENTALS, "fireOverdue",
+                () -> fired[0] = overdueRentalTracker.fireOverdue());
+
+        assertEquals(OVERDUE_RENTALS, fired[0]);
+    }
+
+    @Test
+    @DisplayName("Overdue alert - should load rental, customer and car with one query")
+    void onFineApplied_ShouldUseSingleQuery() throws Exception {
+        TelegramNotificationService notificationService = mock(TelegramNotificationService.class);
+        OverdueAlertListener listener = new OverdueAlertListener(notificationService,
+                rentalRepository, rentalMapper, carMapper, userMapper);
+
+        queryBudget.assertAtMost(1, "onFineApplied", () -> listener.onFineApplied(
+                new FineAppliedEvent(3L, BigDecimal.valueOf(80), 2)));
+
+        verify(notificationService).sendOverdueRentalNotification(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Fleet reconcile - should read each day once and insert a row per car")
+    void reconcile_ShouldNotQueryPerCar() throws Exception {
+        LocalDate day = LocalDate.of(2025, 10, 17);
+
+        // cars and unreturned rentals once; per past day the recorded fleet sizes, a delete,
+        // four reads and the row inserts
+        queryBudget.assertAtMost(2 + 6 + CARS, "reconcile",
+                () -> fleetAnalyticsService.reconcile(day, day));
+    }
+
+    @Test
+    @DisplayName("Pricing rules reload - should read the rules and utilization once each")
+    void reloadIndex_ShouldReadRulesAndUtilizationOnce() throws Exception {
+        queryBudget.assertAtMost(2, "reloadIndex", pricingRuleService::reloadIndex);
+    }
+
+    @Test
+    @DisplayName("Bot summaries - should join customers and cars instead of a lookup per row")
+    void botSummaries_ShouldUseSingleQueryEach() throws Exception {
+        queryBudget.assertAtMost(1, "getActiveRentalSummaries",
+                () -> assertEquals(OVERDUE_RENTALS,
+                        rentalService.getActiveRentalSummaries().size()));
+        queryBudget.assertAtMost(1, "getPendingPaymentSummaries",
+                () -> assertEquals(2, paymentService.getPendingPaymentSummaries().size()));
+    }
+}
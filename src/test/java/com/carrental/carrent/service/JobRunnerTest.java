@@ -0,0 +1,133 @@
+package com.carrental.carrent.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.carrental.carrent.dto.job.JobStatsDto;
+import com.carrental.carrent.service.scheduling.JobLeaseManager;
+import com.carrental.carrent.service.scheduling.JobRunner;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JobRunnerTest {
+    private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    @Mock
+    private JobLeaseManager jobLeaseManager;
+
+    @InjectMocks
+    private JobRunner jobRunner;
+
+    @Test
+    @DisplayName("Run clustered - should run the task while holding the lease")
+    void runClustered_LeaseAcquired_ShouldRunTask() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean heartbeatStopped = new AtomicBoolean();
+        when(jobLeaseManager.tryAcquire(eq("job"), any())).thenReturn(true);
+        when(jobLeaseManager.startHeartbeat("job")).thenReturn(() -> heartbeatStopped.set(true));
+
+        // When
+        boolean ran = jobRunner.runClustered("job", INTERVAL, calls::incrementAndGet);
+
+        // Then
+        assertTrue(ran);
+        assertEquals(1, calls.get());
+        assertTrue(heartbeatStopped.get());
+        verify(jobLeaseManager).tryAcquire("job", Duration.ofSeconds(270));
+        verify(jobLeaseManager, never()).release("job");
+        assertEquals(1, jobRunner.getStats().get(0).runs());
+    }
+
+    @Test
+    @DisplayName("Run clustered - should skip when another node holds the lease")
+    void runClustered_LeaseHeldElsewhere_ShouldSkip() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        when(jobLeaseManager.tryAcquire(eq("job"), any())).thenReturn(false);
+
+        // When
+        boolean ran = jobRunner.runClustered("job", INTERVAL, calls::incrementAndGet);
+
+        // Then
+        assertFalse(ran);
+        assertEquals(0, calls.get());
+        JobStatsDto stats = jobRunner.getStats().get(0);
+        assertEquals(0, stats.runs());
+        assertEquals(1, stats.skippedLease());
+    }
+
+    @Test
+    @DisplayName("Run local - should skip a trigger while the previous run is active")
+    void runLocal_Overlapping_ShouldSkipSecondRun() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Runnable nested = () -> {
+            calls.incrementAndGet();
+            jobRunner.runLocal("job", INTERVAL, calls::incrementAndGet);
+        };
+
+        // When
+        jobRunner.runLocal("job", INTERVAL, nested);
+
+        // Then
+        assertEquals(1, calls.get());
+        JobStatsDto stats = jobRunner.getStats().get(0);
+        assertEquals(1, stats.skippedOverlap());
+        assertFalse(stats.running());
+    }
+
+    @Test
+    @DisplayName("Run clustered - should record failure and release the lease")
+    void runClustered_TaskFails_ShouldReleaseLease() {
+        // Given
+        when(jobLeaseManager.tryAcquire(eq("job"), any())).thenReturn(true);
+        when(jobLeaseManager.startHeartbeat("job")).thenReturn(() -> { });
+
+        // When
+        assertThrows(IllegalStateException.class, () -> jobRunner.runClustered("job", INTERVAL,
+                () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        // Then
+        verify(jobLeaseManager).release("job");
+        assertEquals(1, jobRunner.getStats().get(0).failures());
+    }
+
+    @Test
+    @DisplayName("Run sharded - should run only the shards whose lease was acquired")
+    void runSharded_SomeShardsTaken_ShouldRunFreeShards() {
+        // Given
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        when(jobLeaseManager.owner()).thenReturn("node");
+        when(jobLeaseManager.tryAcquire(any(), any()))
+                .thenAnswer(invocation -> !"job#1".equals(invocation.getArgument(0)));
+        when(jobLeaseManager.startHeartbeat(any())).thenReturn(() -> { });
+
+        // When
+        int ran = jobRunner.runSharded("job", INTERVAL, 3, processed::add);
+
+        // Then
+        assertEquals(2, ran);
+        assertEquals(2, processed.size());
+        assertFalse(processed.contains(1));
+    }
+}
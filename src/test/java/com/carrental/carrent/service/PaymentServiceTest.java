@@ -4,12 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.dto.payment.PaymentDto;
 import com.carrental.carrent.dto.payment.PaymentRequestDto;
+import com.carrental.carrent.event.FineAppliedEvent;
+import com.carrental.carrent.event.PaymentPaidEvent;
+import com.carrental.carrent.event.RentalsOverdueEvent;
 import com.carrental.carrent.mapper.PaymentMapper;
 import com.carrental.carrent.model.Payment;
 import com.carrental.carrent.model.PaymentType;
@@ -18,17 +25,23 @@ import com.carrental.carrent.model.Status;
 import com.carrental.carrent.repository.payment.PaymentRepository;
 import com.carrental.carrent.repository.rental.RentalRepository;
 import com.carrental.carrent.service.impl.PaymentServiceImpl;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import com.carrental.carrent.service.pricing.PricingRules;
 import com.stripe.model.checkout.Session;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -48,6 +61,12 @@ class PaymentServiceTest {
     @Mock
     private CarService carService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine(PricingRules.standard());
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -168,6 +187,7 @@ class PaymentServiceTest {
         assertEquals(Status.PAID, payment.getStatus());
         verify(paymentRepository).findBySessionId(sessionId);
         verify(paymentRepository).save(payment);
+        verify(eventPublisher).publishEvent(new PaymentPaidEvent(1L, sessionId));
     }
 
     @Test
@@ -191,20 +211,6 @@ class PaymentServiceTest {
         // Given
         Long rentalId = 1L;
 
-        Payment payment1 = new Payment();
-        payment1.setId(1L);
-        payment1.setRentalId(rentalId);
-        payment1.setAmountToPay(BigDecimal.valueOf(100.00));
-        payment1.setPaymentType(PaymentType.PAYMENT);
-        payment1.setStatus(Status.PAID);
-
-        Payment payment2 = new Payment();
-        payment2.setId(2L);
-        payment2.setRentalId(rentalId);
-        payment2.setAmountToPay(BigDecimal.valueOf(50.00));
-        payment2.setPaymentType(PaymentType.FINE);
-        payment2.setStatus(Status.PENDING);
-
         PaymentDto paymentDto1 = new PaymentDto();
         paymentDto1.setId(1L);
         paymentDto1.setRentalId(rentalId);
@@ -215,9 +221,8 @@ class PaymentServiceTest {
         paymentDto2.setRentalId(rentalId);
         paymentDto2.setAmountToPay(BigDecimal.valueOf(50.00));
 
-        when(paymentRepository.findByRentalId(rentalId)).thenReturn(List.of(payment1, payment2));
-        when(paymentMapper.toDto(payment1)).thenReturn(paymentDto1);
-        when(paymentMapper.toDto(payment2)).thenReturn(paymentDto2);
+        when(paymentRepository.findDtosByRentalId(rentalId))
+                .thenReturn(List.of(paymentDto1, paymentDto2));
 
         // When
         List<PaymentDto> result = paymentService.getPayments(rentalId);
@@ -225,27 +230,14 @@ class PaymentServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(paymentRepository).findByRentalId(rentalId);
-        verify(paymentMapper).toDto(payment1);
-        verify(paymentMapper).toDto(payment2);
+        verify(paymentRepository).findDtosByRentalId(rentalId);
+        verifyNoInteractions(paymentMapper);
     }
 
     @Test
     @DisplayName("Get all active payments - should return list of non-PAID payment DTOs")
     void getAllActivePayments_WithMixedStatuses_ShouldReturnNonPaidPayments() {
         // Given
-        Payment pendingPayment = new Payment();
-        pendingPayment.setId(1L);
-        pendingPayment.setStatus(Status.PENDING);
-
-        Payment expiredPayment = new Payment();
-        expiredPayment.setId(2L);
-        expiredPayment.setStatus(Status.EXPIRED);
-
-        Payment paidPayment = new Payment();
-        paidPayment.setId(3L);
-        paidPayment.setStatus(Status.PAID);
-
         PaymentDto pendingDto = new PaymentDto();
         pendingDto.setId(1L);
         pendingDto.setStatus(Status.PENDING);
@@ -254,10 +246,7 @@ class PaymentServiceTest {
         expiredDto.setId(2L);
         expiredDto.setStatus(Status.EXPIRED);
 
-        when(paymentRepository.findAll())
-                .thenReturn(List.of(pendingPayment, expiredPayment, paidPayment));
-        when(paymentMapper.toDto(pendingPayment)).thenReturn(pendingDto);
-        when(paymentMapper.toDto(expiredPayment)).thenReturn(expiredDto);
+        when(paymentRepository.findUnpaidDtos()).thenReturn(List.of(pendingDto, expiredDto));
 
         // When
         List<PaymentDto> result = paymentService.getAllActivePayments();
@@ -265,29 +254,22 @@ class PaymentServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(paymentRepository).findAll();
-        verify(paymentMapper).toDto(pendingPayment);
-        verify(paymentMapper).toDto(expiredPayment);
+        verify(paymentRepository).findUnpaidDtos();
+        verifyNoInteractions(paymentMapper);
     }
 
     @Test
-    @DisplayName("Check expired payments - should update expired payments status")
+    @DisplayName("Check expired payments - should expire pending payments in one update")
     void checkExpiredPayments_WithExpiredPayments_ShouldUpdateStatus() {
         // Given
-        Payment expiredPayment = new Payment();
-        expiredPayment.setId(1L);
-        expiredPayment.setStatus(Status.PENDING);
-
-        when(paymentRepository.findExpiredPendingPayments()).thenReturn(List.of(expiredPayment));
-        when(paymentRepository.save(expiredPayment)).thenReturn(expiredPayment);
+        when(paymentRepository.updateStatus(Status.PENDING, Status.EXPIRED)).thenReturn(1);
 
         // When
         paymentService.checkExpiredPayments();
 
         // Then
-        assertEquals(Status.EXPIRED, expiredPayment.getStatus());
-        verify(paymentRepository).findExpiredPendingPayments();
-        verify(paymentRepository).save(expiredPayment);
+        verify(paymentRepository).updateStatus(Status.PENDING, Status.EXPIRED);
+        verify(paymentRepository, never()).save(any(Payment.class));
     }
 
     @Test
@@ -306,7 +288,8 @@ class PaymentServiceTest {
         carDto.setDailyFee(BigDecimal.valueOf(50.00));
 
         when(rentalRepository.findOverdueActiveRentals(any())).thenReturn(List.of(overdueRental));
-        when(carService.findById(1L)).thenReturn(carDto);
+        when(rentalRepository.claimFirstFine(1L, LocalDate.now())).thenReturn(1);
+        when(carService.findByIds(Set.of(1L))).thenReturn(Map.of(1L, carDto));
         when(paymentRepository.save(any(Payment.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -315,7 +298,78 @@ class PaymentServiceTest {
 
         // Then
         verify(rentalRepository).findOverdueActiveRentals(any());
-        verify(carService).findById(1L);
+        verify(carService).findByIds(Set.of(1L));
+        verify(carService, never()).findById(anyLong());
         verify(paymentRepository).save(any(Payment.class));
+        verify(eventPublisher).publishEvent(any(FineAppliedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Rentals overdue event - should fine only the days since the last fine")
+    void onRentalsOverdue_PartiallyFined_ShouldFineRemainingDays() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Rental rental = new Rental();
+        rental.setId(1L);
+        rental.setCarId(1L);
+        rental.setReturnDate(today.minusDays(3));
+        rental.setFinedThrough(today.minusDays(1));
+
+        CarDto carDto = new CarDto();
+        carDto.setId(1L);
+        carDto.setDailyFee(BigDecimal.valueOf(50.00));
+
+        when(rentalRepository.findAllById(List.of(1L))).thenReturn(List.of(rental));
+        when(rentalRepository.advanceFinedThrough(1L, today.minusDays(1), today)).thenReturn(1);
+        when(carService.findByIds(Set.of(1L))).thenReturn(Map.of(1L, carDto));
+
+        // When
+        paymentService.onRentalsOverdue(new RentalsOverdueEvent(List.of(1L), today));
+
+        // Then
+        verify(paymentRepository).save(argThat(payment ->
+                payment.getAmountToPay().compareTo(BigDecimal.valueOf(75)) == 0));
+    }
+
+    @Test
+    @DisplayName("Rentals overdue event - should skip a day another node already fined")
+    void onRentalsOverdue_AlreadyFinedToday_ShouldNotCreatePayment() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Rental rental = new Rental();
+        rental.setId(1L);
+        rental.setCarId(1L);
+        rental.setReturnDate(today.minusDays(3));
+        rental.setFinedThrough(today);
+
+        when(rentalRepository.findAllById(List.of(1L))).thenReturn(List.of(rental));
+
+        // When
+        paymentService.onRentalsOverdue(new RentalsOverdueEvent(List.of(1L), today));
+
+        // Then
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Rentals overdue event - should leave the rental unfined when its car is gone")
+    void onRentalsOverdue_CarDeleted_ShouldNotClaimOrThrow() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Rental rental = new Rental();
+        rental.setId(1L);
+        rental.setCarId(1L);
+        rental.setReturnDate(today.minusDays(3));
+
+        when(rentalRepository.findAllById(List.of(1L))).thenReturn(List.of(rental));
+        when(carService.findByIds(Set.of(1L))).thenReturn(Map.of());
+
+        // When
+        paymentService.onRentalsOverdue(new RentalsOverdueEvent(List.of(1L), today));
+
+        // Then
+        verify(rentalRepository, never()).claimFirstFine(anyLong(), any());
+        verify(paymentRepository, never()).save(any(Payment.class));
     }
 }
@@ -3,33 +3,44 @@ package com.carrental.carrent.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.rental.RentalReturnRequestDto;
+import com.carrental.carrent.event.CarInventoryChangedEvent;
+import com.carrental.carrent.event.RentalCreatedEvent;
 import com.carrental.carrent.mapper.RentalMapper;
 import com.carrental.carrent.model.Car;
 import com.carrental.carrent.model.Rental;
 import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.rental.RentalHistoryRepository;
 import com.carrental.carrent.repository.rental.RentalRepository;
 import com.carrental.carrent.repository.user.UserRepository;
 import com.carrental.carrent.security.AuthenticationService;
 import com.carrental.carrent.service.impl.RentalServiceImpl;
+import com.carrental.carrent.service.overdue.OverdueRentalTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class RentalServiceTest {
@@ -49,6 +60,18 @@ class RentalServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OverdueRentalTracker overdueRentalTracker;
+
+    @Mock
+    private RentalHistoryRepository rentalHistoryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private RentalServiceImpl rentalService;
 
@@ -81,7 +104,7 @@ class RentalServiceTest {
 
         when(userRepository.existsById(1L)).thenReturn(true);
         when(rentalRepository.existsByUserIdAndActualReturnDateIsNull(1L)).thenReturn(false);
-        when(carRepository.findById(1L)).thenReturn(Optional.of(car));
+        when(carRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(car));
         when(rentalMapper.toModel(rentalDto)).thenReturn(rental);
         when(rentalRepository.save(rental)).thenReturn(rental);
         when(rentalMapper.toDto(rental)).thenReturn(responseDto);
@@ -94,10 +117,14 @@ class RentalServiceTest {
         assertEquals(1L, result.getId());
         verify(userRepository).existsById(1L);
         verify(rentalRepository).existsByUserIdAndActualReturnDateIsNull(1L);
-        verify(carRepository).findById(1L);
+        verify(carRepository).findByIdForUpdate(1L);
         verify(rentalMapper).toModel(rentalDto);
         verify(rentalRepository).save(rental);
         verify(rentalMapper).toDto(rental);
+        verify(eventPublisher).publishEvent(new RentalCreatedEvent(
+                rental.getId(), rental.getUserId(), rental.getCarId()));
+        verify(eventPublisher).publishEvent(new CarInventoryChangedEvent(1L, 4, -1, 0));
+        verify(overdueRentalTracker).track(rental.getId(), rental.getReturnDate());
     }
 
     @Test
@@ -148,32 +175,23 @@ class RentalServiceTest {
 
         when(userRepository.existsById(1L)).thenReturn(true);
         when(rentalRepository.existsByUserIdAndActualReturnDateIsNull(1L)).thenReturn(false);
-        when(carRepository.findById(1L)).thenReturn(Optional.of(car));
+        when(carRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(car));
 
         // When & Then
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> rentalService.createRental(rentalDto));
         assertEquals("Car with ID 1 is out of stock", exception.getMessage());
-        verify(carRepository).findById(1L);
+        verify(carRepository).findByIdForUpdate(1L);
     }
 
     @Test
     @DisplayName("Get all rentals - should return list of active rental response DTOs")
     void getAllRentals_WithActiveRentals_ShouldReturnActiveRentals() {
         // Given
-        Rental activeRental = new Rental();
-        activeRental.setId(1L);
-        activeRental.setActualReturnDate(null);
-
-        Rental completedRental = new Rental();
-        completedRental.setId(2L);
-        completedRental.setActualReturnDate(LocalDate.now());
-
         RentalResponseDto responseDto = new RentalResponseDto();
         responseDto.setId(1L);
 
-        when(rentalRepository.findAll()).thenReturn(List.of(activeRental, completedRental));
-        when(rentalMapper.toResponseDto(activeRental)).thenReturn(responseDto);
+        when(rentalRepository.findActiveResponseDtos()).thenReturn(List.of(responseDto));
 
         // When
         List<RentalResponseDto> result = rentalService.getAllRentals();
@@ -182,8 +200,8 @@ class RentalServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(rentalRepository).findAll();
-        verify(rentalMapper).toResponseDto(activeRental);
+        verify(rentalRepository).findActiveResponseDtos();
+        verifyNoInteractions(rentalMapper);
     }
 
     @Test
@@ -192,16 +210,12 @@ class RentalServiceTest {
         // Given
         Long userId = 1L;
 
-        Rental rental = new Rental();
-        rental.setId(1L);
-        rental.setUserId(userId);
-
         RentalResponseDto responseDto = new RentalResponseDto();
         responseDto.setId(1L);
         responseDto.setUserId(userId);
 
-        when(rentalRepository.findAll(any(Specification.class))).thenReturn(List.of(rental));
-        when(rentalMapper.toResponseDto(rental)).thenReturn(responseDto);
+        when(rentalRepository.findResponseDtosByUser(userId, true))
+                .thenReturn(List.of(responseDto));
 
         // When
         Boolean isActive = true;
@@ -211,8 +225,8 @@ class RentalServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(userId, result.get(0).getUserId());
-        verify(rentalRepository).findAll(any(Specification.class));
-        verify(rentalMapper).toResponseDto(rental);
+        verify(rentalRepository).findResponseDtosByUser(userId, true);
+        verifyNoInteractions(rentalMapper);
     }
 
     @Test
@@ -271,7 +285,7 @@ class RentalServiceTest {
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
         when(rentalRepository.findByUserIdAndActualReturnDateIsNull(1L))
                 .thenReturn(Optional.of(rental));
-        when(carRepository.findById(1L)).thenReturn(Optional.of(car));
+        when(carRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(car));
         when(rentalRepository.save(rental)).thenReturn(rental);
         when(rentalMapper.toResponseDto(rental)).thenReturn(responseDto);
 
@@ -284,8 +298,72 @@ class RentalServiceTest {
         assertEquals(1, car.getInventory());
         verify(authenticationService).getAuthenticatedUser();
         verify(rentalRepository).findByUserIdAndActualReturnDateIsNull(1L);
-        verify(carRepository).findById(1L);
+        verify(carRepository).findByIdForUpdate(1L);
         verify(rentalRepository).save(rental);
         verify(rentalMapper).toResponseDto(rental);
     }
+
+    @Test
+    @DisplayName("Write rental history NDJSON - should write one JSON object per line")
+    void writeRentalHistoryNdjson_TwoRentals_ShouldWriteTwoLines() throws Exception {
+        // Given
+        Rental first = createHistoryRental(2L);
+        Rental second = createHistoryRental(1L);
+        when(rentalHistoryRepository.streamByUser(1L, null))
+                .thenReturn(Stream.of(first, second));
+        when(rentalMapper.toResponseDto(any(Rental.class)))
+                .thenAnswer(invocation -> toResponseDto(invocation.getArgument(0)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        rentalService.writeRentalHistoryNdjson(1L, null, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2L, objectMapper.readValue(lines[0], RentalResponseDto.class).getId());
+        assertEquals(1L, objectMapper.readValue(lines[1], RentalResponseDto.class).getId());
+    }
+
+    @Test
+    @DisplayName("Write rental history events - should frame each rental as an SSE event")
+    void writeRentalHistoryEvents_OneRental_ShouldWriteDataEvent() throws Exception {
+        // Given
+        Rental rental = createHistoryRental(5L);
+        when(rentalHistoryRepository.streamByUser(1L, false)).thenReturn(Stream.of(rental));
+        when(rentalMapper.toResponseDto(rental)).thenReturn(toResponseDto(rental));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        rentalService.writeRentalHistoryEvents(1L, false, out);
+
+        // Then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("data: {"));
+        assertTrue(body.endsWith("}\n\n"));
+        String json = body.substring("data: ".length(), body.length() - 2);
+        assertEquals(5L, objectMapper.readValue(json, RentalResponseDto.class).getId());
+    }
+
+    private Rental createHistoryRental(Long id) {
+        Rental rental = new Rental();
+        rental.setId(id);
+        rental.setUserId(1L);
+        rental.setCarId(1L);
+        rental.setRentalDate(LocalDate.now().minusDays(10));
+        rental.setReturnDate(LocalDate.now().minusDays(5));
+        rental.setActualReturnDate(LocalDate.now().minusDays(5));
+        return rental;
+    }
+
+    private RentalResponseDto toResponseDto(Rental rental) {
+        RentalResponseDto dto = new RentalResponseDto();
+        dto.setId(rental.getId());
+        dto.setUserId(rental.getUserId());
+        dto.setCarId(rental.getCarId());
+        dto.setRentalDate(rental.getRentalDate());
+        dto.setReturnDate(rental.getReturnDate());
+        dto.setActualReturnDate(rental.getActualReturnDate());
+        return dto;
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,12 +14,14 @@ import com.carrental.carrent.dto.user.UserRegistrationRequestDto;
 import com.carrental.carrent.dto.user.UserResponseDto;
 import com.carrental.carrent.dto.user.UserRoleUpdateDto;
 import com.carrental.carrent.dto.user.UserUpdateRequestDto;
+import com.carrental.carrent.event.UserChangedEvent;
 import com.carrental.carrent.exception.RegistrationException;
 import com.carrental.carrent.mapper.UserMapper;
 import com.carrental.carrent.model.Role;
 import com.carrental.carrent.model.User;
 import com.carrental.carrent.repository.user.UserRepository;
 import com.carrental.carrent.security.AuthenticationService;
+import com.carrental.carrent.security.RegisteredEmailFilter;
 import com.carrental.carrent.service.impl.UserServiceImpl;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +30,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +49,12 @@ class UserServiceTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -76,6 +87,7 @@ class UserServiceTest {
         responseDto.setFirstName("John");
         responseDto.setLastName("Doe");
 
+        when(registeredEmailFilter.mightBeRegistered("test@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(userMapper.toUserModel(requestDto)).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
@@ -96,6 +108,52 @@ class UserServiceTest {
         verify(passwordEncoder).encode(anyString());
         verify(userRepository).save(any(User.class));
         verify(userMapper).toUserResponseDto(any(User.class));
+        verify(registeredEmailFilter).add("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Register user - should skip the existence query for a certainly new email")
+    void register_CertainlyNewEmail_ShouldNotQueryExistence() throws RegistrationException {
+        // Given
+        UserRegistrationRequestDto requestDto = new UserRegistrationRequestDto();
+        requestDto.setEmail("new@example.com");
+        User user = new User();
+        user.setPassword("password");
+
+        when(registeredEmailFilter.mightBeRegistered("new@example.com")).thenReturn(false);
+        when(userMapper.toUserModel(requestDto)).thenReturn(user);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+
+        // When
+        userService.register(requestDto);
+
+        // Then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository).save(user);
+        verify(registeredEmailFilter).add("new@example.com");
+    }
+
+    @Test
+    @DisplayName("Register user - should report a duplicate caught by the unique key")
+    void register_DuplicateRejectedByUniqueKey_ShouldThrowException() {
+        // Given
+        UserRegistrationRequestDto requestDto = new UserRegistrationRequestDto();
+        requestDto.setEmail("elsewhere@example.com");
+        User user = new User();
+        user.setPassword("password");
+
+        when(registeredEmailFilter.mightBeRegistered("elsewhere@example.com")).thenReturn(false);
+        when(userMapper.toUserModel(requestDto)).thenReturn(user);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(user)).thenThrow(new DataIntegrityViolationException("email"));
+        when(userRepository.existsByEmail("elsewhere@example.com")).thenReturn(true);
+
+        // When & Then
+        RegistrationException exception = assertThrows(RegistrationException.class,
+                () -> userService.register(requestDto));
+        assertEquals("User with this email: elsewhere@example.com already exists",
+                exception.getMessage());
+        verify(registeredEmailFilter, never()).add(anyString());
     }
 
     @Test
@@ -105,6 +163,7 @@ class UserServiceTest {
         UserRegistrationRequestDto requestDto = new UserRegistrationRequestDto();
         requestDto.setEmail("existing@example.com");
 
+        when(registeredEmailFilter.mightBeRegistered("existing@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("existing@example.com")).thenReturn(true);
 
         // When & Then
@@ -147,6 +206,7 @@ class UserServiceTest {
         verify(userRepository).findById(userId);
         verify(userRepository).save(any(User.class));
         verify(userMapper).toUserResponseDto(any(User.class));
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId, null, null));
     }
 
     @Test
@@ -0,0 +1,129 @@
+package com.carrental.carrent.service.fleet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.carrental.carrent.event.CarInventoryChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class FleetStatusHubTest {
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+
+    private FleetStatusHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new FleetStatusHub(new ObjectMapper(), pendingDrains::add,
+                mock(TaskScheduler.class), 2, 2, 60_000, 15_000);
+    }
+
+    @Test
+    @DisplayName("Inventory change - should send one shared frame to every subscriber")
+    void onInventoryChanged_TwoSubscribers_ShouldShareFrame() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.register(first);
+        hub.register(second);
+
+        // When
+        hub.onInventoryChanged(new CarInventoryChangedEvent(7L, 3, -1, 5));
+        runPendingDrains();
+
+        // Then
+        assertEquals(1, first.frames.size());
+        assertEquals(1, second.frames.size());
+        assertSame(first.frames.get(0), second.frames.get(0));
+        String frame = text(first.frames.get(0));
+        assertTrue(frame.contains("event:inventory\n"));
+        assertTrue(frame.contains("id:7:5\n"));
+        assertTrue(frame.contains(
+                "{\"carId\":7,\"inventory\":3,\"delta\":-1,\"version\":5}"));
+    }
+
+    @Test
+    @DisplayName("Inventory changes - should tag every frame with the car version")
+    void onInventoryChanged_OutOfOrder_ShouldCarryVersion() {
+        // Given
+        RecordingEmitter subscriber = new RecordingEmitter();
+        hub.register(subscriber);
+
+        // When
+        hub.onInventoryChanged(new CarInventoryChangedEvent(7L, 2, -1, 4));
+        hub.onInventoryChanged(new CarInventoryChangedEvent(7L, 3, -1, 3));
+        runPendingDrains();
+
+        // Then
+        assertEquals(2, subscriber.frames.size());
+        assertTrue(text(subscriber.frames.get(0)).contains("id:7:4\n"));
+        assertTrue(text(subscriber.frames.get(0)).contains("\"version\":4"));
+        assertTrue(text(subscriber.frames.get(1)).contains("id:7:3\n"));
+        assertTrue(text(subscriber.frames.get(1)).contains("\"version\":3"));
+    }
+
+    @Test
+    @DisplayName("Slow subscriber - should be disconnected once its buffer is full")
+    void broadcast_BufferFull_ShouldEvictSubscriber() {
+        // Given
+        RecordingEmitter slow = new RecordingEmitter();
+        hub.register(slow);
+
+        // When
+        hub.onInventoryChanged(new CarInventoryChangedEvent(1L, 2, -1, 1));
+        hub.onInventoryChanged(new CarInventoryChangedEvent(1L, 1, -1, 2));
+        hub.onInventoryChanged(new CarInventoryChangedEvent(1L, 0, -1, 3));
+
+        // Then
+        assertEquals(0, hub.subscriberCount());
+        assertTrue(slow.completed);
+    }
+
+    @Test
+    @DisplayName("Subscribe - should refuse new streams at capacity")
+    void subscribe_AtCapacity_ShouldReturnEmpty() {
+        hub.register(new RecordingEmitter());
+        hub.register(new RecordingEmitter());
+
+        assertFalse(hub.subscribe().isPresent());
+    }
+
+    private void runPendingDrains() {
+        List<Runnable> drains = new ArrayList<>(pendingDrains);
+        pendingDrains.clear();
+        drains.forEach(Runnable::run);
+    }
+
+    private static String text(Set<DataWithMediaType> frame) {
+        return frame.stream()
+                .map(item -> item.getData().toString())
+                .collect(Collectors.joining());
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Set<DataWithMediaType>> frames = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            frames.add(items);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
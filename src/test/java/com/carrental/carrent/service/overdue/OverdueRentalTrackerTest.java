@@ -0,0 +1,47 @@
+package com.carrental.carrent.service.overdue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.carrental.carrent.event.RentalsOverdueEvent;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class OverdueRentalTrackerTest {
+    @Test
+    @DisplayName("Fire overdue - should publish one event and keep every rental when it fails")
+    void fireOverdue_ListenerFails_ShouldKeepEveryRental() {
+        // Given
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        OverdueRentalTracker tracker =
+                new OverdueRentalTracker(mock(RentalRepository.class), eventPublisher);
+        LocalDate returnDate = LocalDate.now().minusDays(2);
+        tracker.track(1L, returnDate);
+        tracker.track(2L, returnDate);
+        tracker.track(3L, returnDate);
+        List<List<Long>> published = new ArrayList<>();
+        List<Integer> trackedAtPublish = new ArrayList<>();
+        doAnswer(invocation -> {
+            RentalsOverdueEvent event = invocation.getArgument(0);
+            published.add(event.rentalIds());
+            trackedAtPublish.add(tracker.size());
+            throw new IllegalStateException("Database unavailable");
+        }).when(eventPublisher).publishEvent(any(Object.class));
+
+        // When
+        int fired = tracker.fireOverdue();
+
+        // Then
+        assertEquals(3, fired);
+        assertEquals(List.of(List.of(1L, 2L, 3L)), published);
+        assertEquals(List.of(3), trackedAtPublish);
+        assertEquals(3, tracker.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.carrental.carrent.service.overdue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OverdueTimerWheelTest {
+    private static final long SEED = 20251019L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 19);
+
+    @Test
+    @DisplayName("Advance - should fire a rental on its fire day and not before")
+    void advanceTo_ScheduledRental_ShouldFireOnFireDay() {
+        OverdueTimerWheel wheel = new OverdueTimerWheel(TODAY);
+        wheel.schedule(1L, TODAY.plusDays(3));
+
+        assertTrue(wheel.advanceTo(TODAY.plusDays(2)).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(TODAY.plusDays(3)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Schedule - should fire past dates on the next advance")
+    void schedule_PastDate_ShouldFireImmediately() {
+        OverdueTimerWheel wheel = new OverdueTimerWheel(TODAY);
+        wheel.schedule(1L, TODAY.minusDays(5));
+
+        assertEquals(List.of(1L), wheel.advanceTo(TODAY));
+    }
+
+    @Test
+    @DisplayName("Cancel and reschedule - should only fire the latest schedule")
+    void schedule_Rescheduled_ShouldReplacePreviousEntry() {
+        OverdueTimerWheel wheel = new OverdueTimerWheel(TODAY);
+        wheel.schedule(1L, TODAY.plusDays(2));
+        wheel.schedule(1L, TODAY.plusDays(500));
+        wheel.schedule(2L, TODAY.plusDays(1));
+        wheel.cancel(2L);
+
+        assertTrue(wheel.advanceTo(TODAY.plusDays(499)).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(TODAY.plusDays(500)));
+    }
+
+    @Test
+    @DisplayName("Advance - should match a naive scan across all wheel levels")
+    void advanceTo_RandomOperations_ShouldMatchNaiveScan() {
+        Random random = new Random(SEED);
+        OverdueTimerWheel wheel = new OverdueTimerWheel(TODAY);
+        Map<Long, LocalDate> expected = new HashMap<>();
+        LocalDate today = TODAY;
+
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            long rentalId = random.nextInt(1_000);
+            if (operation < 5) {
+                int span = random.nextInt(4) == 0 ? 300_000 : random.nextInt(3) == 0 ? 5_000 : 100;
+                LocalDate fireOn = today.plusDays(random.nextInt(span) - 3);
+                wheel.schedule(rentalId, fireOn);
+                expected.put(rentalId, fireOn);
+            } else if (operation < 6) {
+                wheel.cancel(rentalId);
+                expected.remove(rentalId);
+            } else {
+                today = today.plusDays(random.nextInt(5) == 0
+                        ? random.nextInt(20_000)
+                        : random.nextInt(70));
+                LocalDate now = today;
+                Set<Long> due = new HashSet<>();
+                expected.forEach((id, fireOn) -> {
+                    if (!fireOn.isAfter(now)) {
+                        due.add(id);
+                    }
+                });
+
+                List<Long> fired = wheel.advanceTo(today);
+
+                assertEquals(due.size(), fired.size(), "step " + step);
+                assertEquals(due, new HashSet<>(fired), "step " + step);
+                due.forEach(expected::remove);
+                assertEquals(expected.size(), wheel.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.carrental.carrent.service.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.carrental.carrent.model.CarType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PricingEngineTest {
+    private static final int SAMPLES = 10_000;
+    private static final long SEED = 20240611L;
+
+    private final PricingEngine pricingEngine = new PricingEngine(PricingRules.standard());
+
+    @Test
+    @DisplayName("Rental price - should match BigDecimal calculation for random inputs")
+    void rentalPrice_RandomInputs_ShouldMatchBigDecimalReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal dailyFee = randomFee(random);
+            LocalDate rentalDate = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(3650));
+            LocalDate returnDate = rentalDate.plusDays(random.nextInt(400) - 10);
+
+            long days = ChronoUnit.DAYS.between(rentalDate, returnDate);
+            BigDecimal expected = dailyFee.multiply(BigDecimal.valueOf(Math.max(1, days)));
+
+            BigDecimal actual = pricingEngine.rentalPrice(dailyFee, rentalDate, returnDate);
+
+            assertEquals(0, expected.compareTo(actual),
+                    "fee=" + dailyFee + " from=" + rentalDate + " to=" + returnDate);
+        }
+    }
+
+    @Test
+    @DisplayName("Fine - should match BigDecimal calculation with 1.5 multiplier")
+    void fine_RandomInputs_ShouldMatchBigDecimalReference() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal dailyFee = randomFee(random);
+            long overdueDays = random.nextInt(365) + 1;
+
+            BigDecimal expected = dailyFee.multiply(BigDecimal.valueOf(overdueDays))
+                    .multiply(BigDecimal.valueOf(1.5))
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            BigDecimal actual = pricingEngine.fine(dailyFee, overdueDays);
+
+            assertEquals(expected, actual, "fee=" + dailyFee + " days=" + overdueDays);
+        }
+    }
+
+    @Test
+    @DisplayName("Fine - should be zero when rental is not overdue")
+    void fine_NotOverdue_ShouldBeZero() {
+        assertEquals(0, pricingEngine.fineCents(5000, 0));
+        assertEquals(0, pricingEngine.fineCents(5000, -3));
+    }
+
+    @Test
+    @DisplayName("Weekend rate - should apply only to Saturdays and Sundays")
+    void rentalPriceCents_WeekendRate_ShouldMatchDayByDaySum() {
+        PricingRules rules = PricingRules.builder()
+                .weekendRate(12_500)
+                .dayRate(DayOfWeek.WEDNESDAY, 9_000)
+                .build();
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            long feeCents = random.nextInt(100_000) + 1;
+            LocalDate rentalDate = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+            LocalDate returnDate = rentalDate.plusDays(random.nextInt(60) + 1);
+
+            long weighted = 0;
+            for (LocalDate day = rentalDate; day.isBefore(returnDate); day = day.plusDays(1)) {
+                weighted += rules.dayRate(day.getDayOfWeek());
+            }
+            long expected = BigDecimal.valueOf(feeCents * weighted)
+                    .divide(BigDecimal.valueOf(PricingRules.BASIS_POINTS), 0,
+                            RoundingMode.HALF_UP)
+                    .longValueExact();
+
+            assertEquals(expected,
+                    PricingEngine.rentalPriceCents(rules, feeCents, rentalDate, returnDate));
+        }
+    }
+
+    @Test
+    @DisplayName("Long rental discount - should apply the largest matching tier")
+    void rentalPriceCents_DiscountTiers_ShouldApplyLargestMatchingTier() {
+        PricingRules rules = PricingRules.builder()
+                .discount(7, 1_000)
+                .discount(30, 2_000)
+                .build();
+        LocalDate start = LocalDate.of(2024, 3, 4);
+
+        assertEquals(60_000, PricingEngine.rentalPriceCents(rules, 10_000, start,
+                start.plusDays(6)));
+        assertEquals(63_000, PricingEngine.rentalPriceCents(rules, 10_000, start,
+                start.plusDays(7)));
+        assertEquals(240_000, PricingEngine.rentalPriceCents(rules, 10_000, start,
+                start.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("Utilization tiers - should scale the price by the highest tier reached")
+    void rentalPriceCents_UtilizationTiers_ShouldApplyHighestReachedTier() {
+        PricingRules rules = PricingRules.builder()
+                .utilizationRate(8_000, 12_000)
+                .utilizationRate(9_500, 15_000)
+                .build();
+        LocalDate start = LocalDate.of(2024, 3, 4);
+        LocalDate end = start.plusDays(2);
+
+        assertEquals(20_000, PricingEngine.rentalPriceCents(rules, 10_000, start, end, 7_999));
+        assertEquals(24_000, PricingEngine.rentalPriceCents(rules, 10_000, start, end, 8_000));
+        assertEquals(30_000, PricingEngine.rentalPriceCents(rules, 10_000, start, end, 10_000));
+    }
+
+    @Test
+    @DisplayName("Rental price - should use the car type's utilization from the index")
+    void rentalPriceCents_IndexUtilization_ShouldApplyToCarType() {
+        PricingRules rules = PricingRules.builder().utilizationRate(8_000, 12_000).build();
+        pricingEngine.replaceIndex(PricingRuleIndex.build(rules, List.of(),
+                Map.of(CarType.SUV, 9_000)));
+        LocalDate start = LocalDate.of(2024, 3, 4);
+
+        assertEquals(24_000, pricingEngine.rentalPriceCents(CarType.SUV, 10_000, start,
+                start.plusDays(2)));
+        assertEquals(20_000, pricingEngine.rentalPriceCents(CarType.SEDAN, 10_000, start,
+                start.plusDays(2)));
+    }
+
+    @Test
+    @DisplayName("Discount tier - should reject discounts above 100%")
+    void discountTier_InvalidDiscount_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PricingRules.builder().discount(7, 10_001));
+    }
+
+    private BigDecimal randomFee(Random random) {
+        return BigDecimal.valueOf(random.nextInt(100_000) + 1, 2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.carrental.carrent.service.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.model.PricingRule;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PricingRuleIndexTest {
+    private static final PricingRules DEFAULTS = PricingRules.standard();
+
+    @Test
+    @DisplayName("Rules for - should fall back to defaults when no rule matches")
+    void rulesFor_NoMatchingRule_ShouldReturnDefaults() {
+        PricingRuleIndex index = PricingRuleIndex.build(DEFAULTS, List.of(
+                rule(1L, CarType.SUV, "2024-06-01", "2024-08-31", 12_000)));
+
+        assertSame(DEFAULTS, index.rulesFor(CarType.SUV, LocalDate.parse("2024-05-31")));
+        assertSame(DEFAULTS, index.rulesFor(CarType.SUV, LocalDate.parse("2024-09-01")));
+        assertSame(DEFAULTS, index.rulesFor(CarType.SEDAN, LocalDate.parse("2024-07-01")));
+        assertSame(DEFAULTS, index.rulesFor(null, LocalDate.parse("2024-07-01")));
+    }
+
+    @Test
+    @DisplayName("Rules for - should prefer car type rules over rules for all types")
+    void rulesFor_OverlappingRules_ShouldPreferSpecificCarType() {
+        PricingRuleIndex index = PricingRuleIndex.build(DEFAULTS, List.of(
+                rule(1L, null, "2024-01-01", null, 11_000),
+                rule(2L, CarType.SUV, "2024-06-01", "2024-08-31", 13_000)));
+
+        assertEquals(13_000, index.rulesFor(CarType.SUV, LocalDate.parse("2024-07-01"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertEquals(11_000, index.rulesFor(CarType.SUV, LocalDate.parse("2024-09-01"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertEquals(11_000, index.rulesFor(CarType.SEDAN, LocalDate.parse("2024-07-01"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertEquals(11_000, index.rulesFor(null, LocalDate.parse("2030-01-01"))
+                .dayRate(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    @DisplayName("Rules for - should let the later rule win within the same car type")
+    void rulesFor_SameCarType_ShouldPreferLaterStart() {
+        PricingRuleIndex index = PricingRuleIndex.build(DEFAULTS, List.of(
+                rule(1L, CarType.SEDAN, "2024-01-01", "2024-12-31", 10_500),
+                rule(2L, CarType.SEDAN, "2024-12-20", "2025-01-05", 15_000)));
+
+        assertEquals(10_500, index.rulesFor(CarType.SEDAN, LocalDate.parse("2024-12-19"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertEquals(15_000, index.rulesFor(CarType.SEDAN, LocalDate.parse("2024-12-25"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertEquals(15_000, index.rulesFor(CarType.SEDAN, LocalDate.parse("2025-01-05"))
+                .dayRate(DayOfWeek.MONDAY));
+        assertSame(DEFAULTS, index.rulesFor(CarType.SEDAN, LocalDate.parse("2025-01-06")));
+    }
+
+    @Test
+    @DisplayName("Compile - should combine base and weekend rates and keep default fine")
+    void compile_RuleWithWeekendRate_ShouldMultiplyRates() {
+        PricingRule rule = rule(1L, CarType.SUV, "2024-01-01", null, 12_000);
+        rule.setWeekendRateBp(12_500);
+        rule.setLongRentalMinDays(7);
+        rule.setLongRentalDiscountBp(1_000);
+
+        PricingRules rules = PricingRuleIndex.compile(DEFAULTS, rule);
+
+        assertEquals(12_000, rules.dayRate(DayOfWeek.FRIDAY));
+        assertEquals(15_000, rules.dayRate(DayOfWeek.SATURDAY));
+        assertEquals(1, rules.discountTiers().size());
+        assertEquals(0, rules.utilizationTiers().size());
+        assertEquals(DEFAULTS.fineRate(), rules.fineRate());
+    }
+
+    @Test
+    @DisplayName("Compile - should add the rule's high utilization rate as a tier")
+    void compile_RuleWithHighUtilization_ShouldAddUtilizationTier() {
+        PricingRule rule = rule(1L, CarType.SUV, "2024-01-01", null, 10_000);
+        rule.setHighUtilizationBp(8_500);
+        rule.setHighUtilizationRateBp(11_500);
+
+        PricingRules rules = PricingRuleIndex.compile(DEFAULTS, rule);
+
+        assertEquals(List.of(new UtilizationTier(8_500, 11_500)), rules.utilizationTiers());
+    }
+
+    @Test
+    @DisplayName("Utilization for - should return the loaded value, or zero when unknown")
+    void utilizationFor_LoadedTypes_ShouldReturnBasisPoints() {
+        PricingRuleIndex index = PricingRuleIndex.build(DEFAULTS, List.of(),
+                Map.of(CarType.SUV, 9_100));
+
+        assertEquals(9_100, index.utilizationFor(CarType.SUV));
+        assertEquals(0, index.utilizationFor(CarType.SEDAN));
+        assertEquals(0, index.utilizationFor(null));
+    }
+
+    private PricingRule rule(Long id, CarType carType, String from, String to, int rate) {
+        PricingRule rule = new PricingRule();
+        rule.setId(id);
+        rule.setCarType(carType);
+        rule.setValidFrom(LocalDate.parse(from));
+        rule.setValidTo(to == null ? null : LocalDate.parse(to));
+        rule.setRateBp(rate);
+        return rule;
+    }
+}
@@ -1,5 +1,6 @@
 package com.carrental.carrent.service.telegram;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -10,9 +11,13 @@ import com.carrental.carrent.dto.car.CarDto;
 import com.carrental.carrent.dto.rental.RentalDto;
 import com.carrental.carrent.dto.rental.RentalResponseDto;
 import com.carrental.carrent.dto.user.UserResponseDto;
+import com.carrental.carrent.health.TelegramHealthIndicator;
 import com.carrental.carrent.model.CarType;
 import com.carrental.carrent.service.CarService;
 import com.carrental.carrent.service.UserService;
+import com.carrental.carrent.service.pricing.PricingEngine;
+import com.carrental.carrent.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
@@ -37,12 +43,18 @@ class TelegramNotificationServiceTest {
     @Mock
     private CarService carService;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TelegramHealthIndicator healthIndicator = new TelegramHealthIndicator(1);
+
     private TelegramNotificationService telegramNotificationService;
 
     @BeforeEach
     void setUp() {
         telegramNotificationService = new TelegramNotificationService(
-                telegramBot, userService, carService);
+                telegramBot, userService, carService,
+                new PricingEngine(PricingRules.standard()),
+                meterRegistry, healthIndicator);
         ReflectionTestUtils.setField(telegramNotificationService, "adminChatId", "12345");
     }
 
@@ -169,6 +181,9 @@ class TelegramNotificationServiceTest {
 
         // Then
         verify(telegramBot).execute(any(SendMessage.class));
+        assertEquals(1, meterRegistry.get("telegram.send")
+                .tag("outcome", "failure").timer().count());
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.carrental.carrent.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Fails a test when an action issues more SQL statements than it is allowed.
+ * Statements are counted by {@link SqlStatementCounter} on the calling thread,
+ * which is the thread MockMvc and directly invoked jobs run on.
+ *
+ * <p>The failure lists every statement, marks repeated ones (the usual sign
+ * of an N+1 pattern) and adds the entity and collection fetches Hibernate
+ * statistics saw during the action. Statistics are global to the session
+ * factory, so those numbers may include background work and are only a hint.
+ */
+public class QueryBudget {
+    private final Statistics statistics;
+
+    public QueryBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void assertAtMost(int maxStatements, String name, Action action) throws Exception {
+        long entityFetches = statistics.getEntityFetchCount();
+        long collectionFetches = statistics.getCollectionFetchCount();
+        List<String> statements;
+        SqlStatementCounter.start();
+        try {
+            action.run();
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        if (statements.size() > maxStatements) {
+            throw new AssertionError(describe(name, maxStatements, statements,
+                    statistics.getEntityFetchCount() - entityFetches,
+                    statistics.getCollectionFetchCount() - collectionFetches));
+        }
+    }
+
+    private static String describe(String name, int maxStatements, List<String> statements,
+                                   long entityFetches, long collectionFetches) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        statements.forEach(sql -> counts.merge(sql, 1, Integer::sum));
+
+        StringBuilder message = new StringBuilder()
+                .append(name).append(" issued ").append(statements.size())
+                .append(" SQL statements, budget is ").append(maxStatements)
+                .append(" (entity fetches: ").append(entityFetches)
+                .append(", collection fetches: ").append(collectionFetches).append(')');
+        counts.forEach((sql, count) -> {
+            message.append(System.lineSeparator()).append("  ");
+            if (count > 1) {
+                message.append(count).append("x ");
+            }
+            message.append(sql);
+        });
+        return message.toString();
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
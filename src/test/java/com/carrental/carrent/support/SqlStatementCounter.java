@@ -0,0 +1,37 @@
+package com.carrental.carrent.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every SQL statement Hibernate prepares on the current thread while
+ * a {@link QueryBudget} is open. Registered for all tests through
+ * {@code hibernate.session_factory.statement_inspector}; outside a budget it
+ * only passes the SQL through.
+ *
+ * <p>Recording is per thread, so async event listeners and scheduled jobs
+ * running in the background never count towards the request under test.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+}
@@ -0,0 +1,101 @@
+package com.carrental.carrent.support.data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes one CSV file per table plus a {@code load.sql} script that loads
+ * them into MySQL with {@code LOAD DATA LOCAL INFILE}, the fastest way in:
+ *
+ * <pre>
+ * mysql --local-infile=1 -u root -p carrent &lt; target/datagen/load.sql
+ * </pre>
+ *
+ * Nulls are written as {@code \N} and booleans as 0 or 1, as
+ * {@code LOAD DATA} reads them.
+ */
+public final class CsvRowWriter implements RowWriter {
+    private final Path directory;
+    private final Map<Table, Writer> writers = new EnumMap<>(Table.class);
+
+    public CsvRowWriter(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(Table table, Object... values) {
+        try {
+            Writer writer = writers.get(table);
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file(table));
+                writers.put(table, writer);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (BufferedWriter script = Files.newBufferedWriter(directory.resolve("load.sql"))) {
+            script.write("SET foreign_key_checks = 0;\nSET unique_checks = 0;\n");
+            for (Map.Entry<Table, Writer> entry : writers.entrySet()) {
+                entry.getValue().close();
+                Table table = entry.getKey();
+                script.write("LOAD DATA LOCAL INFILE '" + file(table).toAbsolutePath()
+                        + "' INTO TABLE " + table.tableName()
+                        + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'"
+                        + " LINES TERMINATED BY '\\n' ("
+                        + String.join(", ", table.columns()) + ");\n");
+            }
+            script.write("SET unique_checks = 1;\nSET foreign_key_checks = 1;\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(Table table) {
+        return directory.resolve(table.tableName() + ".csv");
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "1" : "0";
+        }
+        String text = value.toString();
+        return value instanceof String && needsQuoting(text)
+                ? '"' + text.replace("\\", "\\\\").replace("\"", "\"\"") + '"'
+                : text;
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\\' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,254 @@
+package com.carrental.carrent.support.data;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Generates a realistic, reproducible data set for a {@link DataSetSpec}:
+ *
+ * <ul>
+ *     <li>rentals per car and per customer follow Zipf distributions, so a few
+ *     cars and customers account for most of the history;</li>
+ *     <li>rental lengths are mostly a few days, history goes back three years,
+ *     and a share of returns is late and carries a paid fine;</li>
+ *     <li>open rentals belong to distinct customers and cars that are not
+ *     deleted, and a share of them is overdue;</li>
+ *     <li>payments beyond one per rental are expired checkout attempts;</li>
+ *     <li>a share of cars, customers and payments is soft-deleted.</li>
+ * </ul>
+ *
+ * <p>Rows stream to a {@link RowWriter}, so memory stays at the popularity
+ * tables whatever the row count. Every user's password is {@link #PASSWORD}.
+ *
+ * <p>Run {@link #main} to fill a database or write CSV files for
+ * {@code LOAD DATA}; from a test, pass a {@link JdbcRowWriter} on the test
+ * data source.
+ */
+@Slf4j
+public final class DataGenerator {
+    public static final String PASSWORD = "password";
+
+    private static final int MANAGER = 0;
+    private static final int CUSTOMER = 1;
+    private static final int HISTORY_DAYS = 3 * 365;
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert",
+            "Jennifer", "Michael", "Linda", "David", "Elizabeth", "Olena", "Taras", "Anna",
+            "Andrii", "Sofia", "Maksym", "Iryna", "Dmytro", "Emma", "Lucas"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones",
+            "Garcia", "Miller", "Davis", "Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko",
+            "Kravchenko", "Melnyk", "Wilson", "Moore", "Taylor", "Anderson", "Thomas", "Martin"};
+    private static final String[][] MODELS = {
+            {"Toyota", "Camry", "0"}, {"Toyota", "RAV4", "1"}, {"Toyota", "Yaris", "2"},
+            {"Volkswagen", "Passat", "0"}, {"Volkswagen", "Golf", "2"},
+            {"Volkswagen", "Passat Variant", "3"}, {"Skoda", "Octavia", "0"},
+            {"Skoda", "Octavia Combi", "3"}, {"Skoda", "Kodiaq", "1"}, {"Ford", "Focus", "2"},
+            {"Ford", "Kuga", "1"}, {"BMW", "3 Series", "0"}, {"BMW", "X5", "1"},
+            {"Tesla", "Model 3", "0"}, {"Tesla", "Model Y", "1"}, {"Hyundai", "Tucson", "1"},
+            {"Renault", "Clio", "2"}, {"Volvo", "V90", "3"}};
+    private static final int[] DAILY_FEE_BY_TYPE = {55, 80, 40, 60};
+
+    private final DataSetSpec spec;
+    private final LocalDate today = LocalDate.now();
+    private final int[] dailyFees;
+    private final ZipfSampler carPopularity;
+    private final ZipfSampler customerActivity;
+
+    public DataGenerator(DataSetSpec spec) {
+        this.spec = spec;
+        this.dailyFees = new int[spec.cars()];
+        this.carPopularity = new ZipfSampler(1, spec.cars(), spec.carPopularitySkew(),
+                spec.seed());
+        this.customerActivity = new ZipfSampler(spec.firstCustomerId(), spec.rentingCustomers(),
+                spec.customerSkew(), spec.seed() + 1);
+    }
+
+    public DataSetSpec spec() {
+        return spec;
+    }
+
+    /**
+     * Counts of what {@link #generate} wrote, deleted rows included.
+     */
+    public record Result(long users, int cars, int rentals, int activeRentals,
+                         int overdueRentals, int payments) {
+    }
+
+    public Result generate(RowWriter writer) {
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        long start = System.nanoTime();
+        writeUsers(writer);
+        writeCars(writer, random);
+        Result result = writeRentalsAndPayments(writer, random);
+        log.info("Generated {} in {} ms", result, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * A car that is not deleted, drawn by popularity. Callers that drive load
+     * against a generated data set use it to hit the same hot rows.
+     */
+    public long sampleAvailableCar(SplittableRandom random) {
+        long carId;
+        do {
+            carId = carPopularity.sample(random);
+        } while (isDeleted(Table.CARS, carId));
+        return carId;
+    }
+
+    public static String email(long userId) {
+        // logins accept at most 20 characters, enough for ids below 1,000,000
+        return "u" + userId + "@carrent.test";
+    }
+
+    private void writeUsers(RowWriter writer) {
+        String password = new BCryptPasswordEncoder().encode(PASSWORD);
+        long reservedFrom = spec.firstCustomerId() + spec.rentingCustomers();
+        for (long id = 1; id <= spec.users(); id++) {
+            boolean customer = id >= spec.firstCustomerId();
+            boolean deleted = customer && id < reservedFrom && isDeleted(Table.USERS, id);
+            writer.write(Table.USERS, id, email(id),
+                    FIRST_NAMES[Math.floorMod(mix(id), FIRST_NAMES.length)],
+                    LAST_NAMES[Math.floorMod(mix(id + 1), LAST_NAMES.length)],
+                    password, customer ? CUSTOMER : MANAGER, deleted);
+        }
+    }
+
+    private void writeCars(RowWriter writer, SplittableRandom random) {
+        for (int id = 1; id <= spec.cars(); id++) {
+            String[] model = MODELS[random.nextInt(MODELS.length)];
+            int carType = Integer.parseInt(model[2]);
+            dailyFees[id - 1] = DAILY_FEE_BY_TYPE[carType] + random.nextInt(41);
+            int inventory = 1 + (int) Math.min(9, -Math.log(1 - random.nextDouble()) * 2);
+            writer.write(Table.CARS, (long) id, model[1], model[0], carType, inventory,
+                    BigDecimal.valueOf(dailyFees[id - 1]), isDeleted(Table.CARS, id));
+        }
+    }
+
+    private Result writeRentalsAndPayments(RowWriter writer, SplittableRandom random) {
+        int active = spec.activeRentals();
+        int overdue = 0;
+        long nextActiveCustomer = spec.firstCustomerId();
+        long paymentId = 0;
+        for (long id = 1; id <= spec.rentals(); id++) {
+            int days = rentalDays(random);
+            long carId;
+            long userId;
+            LocalDate rentalDate;
+            LocalDate returnDate;
+            LocalDate actualReturnDate = null;
+            int lateDays = 0;
+            if (id <= active) {
+                while (isDeleted(Table.USERS, nextActiveCustomer)) {
+                    nextActiveCustomer++;
+                }
+                userId = nextActiveCustomer++;
+                carId = sampleAvailableCar(random);
+                if (random.nextDouble() < spec.overdueRatio()) {
+                    overdue++;
+                    returnDate = today.minusDays(1 + random.nextInt(10));
+                } else {
+                    returnDate = today.plusDays(1 + random.nextInt(days));
+                }
+                rentalDate = returnDate.minusDays(days);
+            } else {
+                userId = customerActivity.sample(random);
+                carId = carPopularity.sample(random);
+                // late returns are up to five days late and still in the past
+                rentalDate = today.minusDays(days + 6 + random.nextInt(HISTORY_DAYS));
+                returnDate = rentalDate.plusDays(days);
+                if (random.nextDouble() < spec.lateReturnRatio()) {
+                    lateDays = 1 + random.nextInt(5);
+                    actualReturnDate = returnDate.plusDays(lateDays);
+                } else {
+                    actualReturnDate = returnDate.minusDays(random.nextInt(Math.min(days, 3)));
+                }
+            }
+            writer.write(Table.RENTALS, id, rentalDate, returnDate, actualReturnDate,
+                    lateDays > 0 ? actualReturnDate : null, carId, userId);
+
+            BigDecimal fee = BigDecimal.valueOf(dailyFees[(int) carId - 1]);
+            long payments = paymentsFor(id);
+            for (long k = 0; k < payments; k++) {
+                paymentId++;
+                writePayment(writer, paymentId, id, k, id <= active, lateDays, fee, days);
+            }
+        }
+        return new Result(spec.users(), spec.cars(), spec.rentals(), active, overdue,
+                (int) paymentId);
+    }
+
+    private void writePayment(RowWriter writer, long paymentId, long rentalId, long attempt,
+                              boolean active, int lateDays, BigDecimal fee, int days) {
+        String status;
+        String type = "PAYMENT";
+        BigDecimal amount = fee.multiply(BigDecimal.valueOf(days));
+        String sessionId = "cs_gen_" + paymentId;
+        String sessionUrl = "https://checkout.stripe.com/c/pay/" + sessionId;
+        if (attempt == 0) {
+            status = active ? "PENDING" : "PAID";
+        } else if (attempt == 1 && lateDays > 0) {
+            status = "PAID";
+            type = "FINE";
+            amount = fee.multiply(BigDecimal.valueOf(lateDays * 15L, 1));
+            sessionId = "FINE_" + rentalId + "_" + paymentId;
+            sessionUrl = "fine_payment_no_url";
+        } else {
+            status = "EXPIRED";
+        }
+        writer.write(Table.PAYMENTS, paymentId, status, type, rentalId, sessionUrl, sessionId,
+                amount, isDeleted(Table.PAYMENTS, paymentId));
+    }
+
+    /** Spreads the payments exactly over the rentals, as evenly as integers allow. */
+    private long paymentsFor(long rentalId) {
+        return rentalId * spec.payments() / spec.rentals()
+                - (rentalId - 1) * spec.payments() / spec.rentals();
+    }
+
+    /** Mostly short rentals: exponential with a mean of about four days, capped at 30. */
+    private static int rentalDays(SplittableRandom random) {
+        return 1 + (int) Math.min(29, -Math.log(1 - random.nextDouble()) * 3.5);
+    }
+
+    /**
+     * Whether a row is soft-deleted, decided by a hash of its id so that
+     * rentals can avoid deleted cars and customers without a lookup table.
+     */
+    private boolean isDeleted(Table table, long id) {
+        long hash = mix(id * 0x9E3779B97F4A7C15L + table.ordinal() + spec.seed());
+        return (hash >>> 11) * 0x1.0p-53 < spec.softDeletedRatio();
+    }
+
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Generates {@link DataSetSpec#fromSystemProperties datagen.*} sizes into
+     * the empty schema at {@code -Ddatagen.jdbc.url} (with
+     * {@code datagen.jdbc.username} and {@code datagen.jdbc.password}), or into
+     * CSV files and a {@code load.sql} script in {@code -Ddatagen.csv.dir}.
+     */
+    public static void main(String[] args) {
+        DataGenerator generator = new DataGenerator(DataSetSpec.fromSystemProperties("datagen."));
+        String csvDir = System.getProperty("datagen.csv.dir");
+        String jdbcUrl = System.getProperty("datagen.jdbc.url");
+        if (csvDir == null && jdbcUrl == null) {
+            throw new IllegalArgumentException("Set -Ddatagen.jdbc.url or -Ddatagen.csv.dir");
+        }
+        try (RowWriter writer = csvDir != null
+                ? new CsvRowWriter(Path.of(csvDir))
+                : new JdbcRowWriter(new DriverManagerDataSource(jdbcUrl,
+                        System.getProperty("datagen.jdbc.username", "root"),
+                        System.getProperty("datagen.jdbc.password", "")))) {
+            generator.generate(writer);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.carrental.carrent.support.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.carrental.carrent.dto.rental.RentalDueDate;
+import com.carrental.carrent.model.Car;
+import com.carrental.carrent.model.CarType;
+import com.carrental.carrent.repository.car.CarRepository;
+import com.carrental.carrent.repository.payment.PaymentRepository;
+import com.carrental.carrent.repository.rental.RentalRepository;
+import com.carrental.carrent.repository.user.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Generates a small data set into the test database and checks it through the
+ * repositories. The writer commits on its own connection, so the tests run
+ * outside a transaction and clear the tables around each run.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = "classpath:database/delete-data-from-tables.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/delete-data-from-tables.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class DataGeneratorTest {
+    private static final DataSetSpec SPEC = DataSetSpec.of(200, 1_000, 5_000, 12_000)
+            .withReservedCustomers(10);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private DataGenerator.Result result;
+
+    @BeforeEach
+    void setUp() {
+        try (JdbcRowWriter writer = new JdbcRowWriter(dataSource, 64)) {
+            result = new DataGenerator(SPEC).generate(writer);
+        }
+    }
+
+    @Test
+    @DisplayName("Generate - should write every row and hide soft-deleted ones from JPA")
+    void generate_ShouldWriteAllRowsAndSoftDeleteSome() {
+        assertEquals(SPEC.users(), count("SELECT COUNT(*) FROM users"));
+        assertEquals(SPEC.cars(), count("SELECT COUNT(*) FROM cars"));
+        assertEquals(SPEC.rentals(), count("SELECT COUNT(*) FROM rentals"));
+        assertEquals(SPEC.payments(), count("SELECT COUNT(*) FROM payments"));
+        assertEquals(SPEC.payments(), result.payments());
+
+        assertTrue(userRepository.count() < SPEC.users());
+        assertTrue(paymentRepository.count() < SPEC.payments());
+        assertTrue(carRepository.count() <= SPEC.cars());
+    }
+
+    @Test
+    @DisplayName("Generate - should open one rental per customer with the requested overdue share")
+    void generate_ShouldCreateActiveAndOverdueRentals() {
+        List<RentalDueDate> active = rentalRepository.findActiveRentalDueDates();
+        long overdue = active.stream()
+                .filter(rental -> rental.returnDate().isBefore(LocalDate.now()))
+                .count();
+
+        assertEquals(SPEC.activeRentals(), active.size());
+        assertEquals(result.overdueRentals(), overdue);
+        assertTrue(overdue > 0 && overdue < active.size());
+        assertEquals(SPEC.activeRentals(), count(
+                "SELECT COUNT(DISTINCT user_id) FROM rentals WHERE actual_return_date IS NULL"));
+        assertEquals(0, count("SELECT COUNT(*) FROM rentals WHERE user_id >= ?",
+                SPEC.reservedCustomerId(0)));
+    }
+
+    @Test
+    @DisplayName("Generate - should concentrate rentals on the popular cars")
+    void generate_ShouldSkewCarPopularity() {
+        List<Long> rentalsPerCar = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM rentals GROUP BY car_id ORDER BY COUNT(*) DESC", Long.class);
+        long topTenPercent = rentalsPerCar.stream()
+                .limit(SPEC.cars() / 10)
+                .mapToLong(Long::longValue)
+                .sum();
+
+        assertTrue(topTenPercent > SPEC.rentals() / 2,
+                "Top 10% of cars hold only " + topTenPercent + " rentals");
+    }
+
+    @Test
+    @DisplayName("Generate - should leave identity columns past the generated ids")
+    void generate_ShouldAdvanceIdentityColumns() {
+        Car car = new Car();
+        car.setModel("Corolla");
+        car.setBrand("Toyota");
+        car.setCarType(CarType.SEDAN);
+        car.setInventory(1);
+        car.setDailyFee(BigDecimal.valueOf(50));
+
+        assertEquals(Long.valueOf(SPEC.cars() + 1L), carRepository.save(car).getId());
+    }
+
+    private long count(String sql, Object... args) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,109 @@
+package com.carrental.carrent.support.data;
+
+/**
+ * Shape of a generated data set. Users 1 to {@code managers} are managers and
+ * the customers follow; the last {@code reservedCustomers} customers are never
+ * deleted and hold no rentals, so callers can rent with them.
+ *
+ * @param activeRatio        share of rentals that are still open
+ * @param overdueRatio       share of open rentals past their return date
+ * @param lateReturnRatio    share of returned rentals brought back late, with a fine
+ * @param softDeletedRatio   share of cars, customers and payments marked deleted
+ * @param carPopularitySkew  Zipf exponent of rentals per car
+ * @param customerSkew       Zipf exponent of rentals per customer
+ */
+public record DataSetSpec(
+        int cars,
+        int managers,
+        int customers,
+        int rentals,
+        int payments,
+        double activeRatio,
+        double overdueRatio,
+        double lateReturnRatio,
+        double softDeletedRatio,
+        double carPopularitySkew,
+        double customerSkew,
+        int reservedCustomers,
+        long seed) {
+
+    public DataSetSpec {
+        if (cars < 1 || managers < 1 || customers < 1 || rentals < 0 || payments < 0) {
+            throw new IllegalArgumentException("Data set needs a car, a manager and a customer");
+        }
+        if (softDeletedRatio >= 0.5) {
+            throw new IllegalArgumentException("Soft-deleted ratio must be below 0.5");
+        }
+        if (reservedCustomers >= customers) {
+            throw new IllegalArgumentException("Only " + customers + " customers for "
+                    + reservedCustomers + " reserved ones");
+        }
+    }
+
+    /** Sizes with the default mix: 2% open rentals, a quarter of them overdue. */
+    public static DataSetSpec of(int cars, int customers, int rentals, int payments) {
+        return new DataSetSpec(cars, Math.max(1, customers / 10_000), customers, rentals,
+                payments, 0.02, 0.25, 0.1, 0.02, 1.1, 0.8, 0, 42);
+    }
+
+    /**
+     * Reads {@code <prefix>cars}, {@code customers}, {@code rentals},
+     * {@code payments} and {@code seed} from system properties, each size
+     * multiplied by {@code <prefix>scale}. The default is 100k cars, 200k
+     * customers, 1M rentals and 5M payments.
+     */
+    public static DataSetSpec fromSystemProperties(String prefix) {
+        double scale = Double.parseDouble(System.getProperty(prefix + "scale", "1"));
+        DataSetSpec spec = of(
+                scaled(Integer.getInteger(prefix + "cars", 100_000), scale),
+                scaled(Integer.getInteger(prefix + "customers", 200_000), scale),
+                scaled(Integer.getInteger(prefix + "rentals", 1_000_000), scale),
+                scaled(Integer.getInteger(prefix + "payments", 5_000_000), scale));
+        return spec.withSeed(Long.getLong(prefix + "seed", spec.seed()));
+    }
+
+    public DataSetSpec withReservedCustomers(int reserved) {
+        return new DataSetSpec(cars, managers, customers, rentals, payments, activeRatio,
+                overdueRatio, lateReturnRatio, softDeletedRatio, carPopularitySkew, customerSkew,
+                reserved, seed);
+    }
+
+    public DataSetSpec withSeed(long newSeed) {
+        return new DataSetSpec(cars, managers, customers, rentals, payments, activeRatio,
+                overdueRatio, lateReturnRatio, softDeletedRatio, carPopularitySkew, customerSkew,
+                reservedCustomers, newSeed);
+    }
+
+    public long users() {
+        return (long) managers + customers;
+    }
+
+    public long firstCustomerId() {
+        return managers + 1L;
+    }
+
+    /** Customers that rentals are spread over: all but the reserved ones. */
+    public int rentingCustomers() {
+        return customers - reservedCustomers;
+    }
+
+    public long reservedCustomerId(int index) {
+        if (index < 0 || index >= reservedCustomers) {
+            throw new IndexOutOfBoundsException("Reserved customer " + index + " of "
+                    + reservedCustomers);
+        }
+        return firstCustomerId() + rentingCustomers() + index;
+    }
+
+    /**
+     * Open rentals, one per customer as the application allows, so at most
+     * half of the renting customers to leave room for the deleted ones.
+     */
+    public int activeRentals() {
+        return (int) Math.min(Math.round(rentals * activeRatio), rentingCustomers() / 2);
+    }
+
+    private static int scaled(int size, double scale) {
+        return Math.max(1, (int) Math.round(size * scale));
+    }
+}
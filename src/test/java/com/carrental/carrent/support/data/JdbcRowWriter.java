@@ -0,0 +1,153 @@
+package com.carrental.carrent.support.data;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Writes rows through multi-row {@code INSERT ... VALUES (...), (...)}
+ * statements, sent in JDBC batches and committed per batch, so each round
+ * trip carries thousands of rows whatever the driver's batch rewriting.
+ *
+ * <p>Generated rows are consistent by construction, so on MySQL foreign key
+ * and unique checks are switched off for the writer's session; tables can
+ * then be flushed in any order. On H2 the identity columns are moved past the
+ * written ids on {@link #close()}; MySQL does that itself.
+ */
+public final class JdbcRowWriter implements RowWriter {
+    public static final int DEFAULT_ROWS_PER_STATEMENT = 500;
+    private static final int STATEMENTS_PER_BATCH = 20;
+
+    private final Connection connection;
+    private final int rowsPerStatement;
+    private final boolean h2;
+    private final Map<Table, TableBuffer> buffers = new EnumMap<>(Table.class);
+
+    public JdbcRowWriter(DataSource dataSource) {
+        this(dataSource, DEFAULT_ROWS_PER_STATEMENT);
+    }
+
+    public JdbcRowWriter(DataSource dataSource, int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+            if (!h2) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET foreign_key_checks = 0");
+                    statement.execute("SET unique_checks = 0");
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot open a connection for the data generator", e);
+        }
+    }
+
+    @Override
+    public void write(Table table, Object... values) {
+        TableBuffer buffer = buffers.computeIfAbsent(table, TableBuffer::new);
+        buffer.rows.add(values);
+        buffer.maxId = Math.max(buffer.maxId, ((Number) values[0]).longValue());
+        if (buffer.rows.size() == rowsPerStatement) {
+            execute(buffer, false);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (connection) {
+            for (TableBuffer buffer : buffers.values()) {
+                execute(buffer, true);
+            }
+            try (Statement statement = connection.createStatement()) {
+                if (h2) {
+                    for (TableBuffer buffer : buffers.values()) {
+                        statement.execute("ALTER TABLE " + buffer.table.tableName()
+                                + " ALTER COLUMN id RESTART WITH " + (buffer.maxId + 1));
+                    }
+                } else {
+                    statement.execute("SET unique_checks = 1");
+                    statement.execute("SET foreign_key_checks = 1");
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot finish writing generated rows", e);
+        }
+    }
+
+    /**
+     * Adds the buffered rows to the table's batch and sends the batch once it
+     * is full, or always on the final call.
+     */
+    private void execute(TableBuffer buffer, boolean last) {
+        try {
+            if (!buffer.rows.isEmpty()) {
+                PreparedStatement statement = buffer.rows.size() == rowsPerStatement
+                        ? buffer.fullStatement()
+                        : connection.prepareStatement(insertSql(buffer.table,
+                                buffer.rows.size()));
+                int index = 1;
+                for (Object[] row : buffer.rows) {
+                    for (Object value : row) {
+                        statement.setObject(index++, value);
+                    }
+                }
+                if (statement == buffer.fullStatement) {
+                    statement.addBatch();
+                    buffer.batched++;
+                } else {
+                    try (statement) {
+                        statement.executeUpdate();
+                    }
+                }
+                buffer.rows.clear();
+            }
+            if (buffer.batched > 0 && (last || buffer.batched == STATEMENTS_PER_BATCH)) {
+                buffer.fullStatement.executeBatch();
+                buffer.batched = 0;
+                connection.commit();
+            }
+            if (last && buffer.fullStatement != null) {
+                buffer.fullStatement.close();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Insert into " + buffer.table.tableName()
+                    + " failed", e);
+        }
+    }
+
+    private static String insertSql(Table table, int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(table.columns().size(), "?"))
+                + ")";
+        return "INSERT INTO " + table.tableName() + " (" + String.join(", ", table.columns())
+                + ") VALUES " + String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    private final class TableBuffer {
+        private final Table table;
+        private final List<Object[]> rows = new ArrayList<>(rowsPerStatement);
+        private PreparedStatement fullStatement;
+        private int batched;
+        private long maxId;
+
+        private TableBuffer(Table table) {
+            this.table = table;
+        }
+
+        private PreparedStatement fullStatement() throws SQLException {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(insertSql(table, rowsPerStatement));
+            }
+            return fullStatement;
+        }
+    }
+}
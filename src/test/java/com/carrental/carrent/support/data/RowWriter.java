@@ -0,0 +1,13 @@
+package com.carrental.carrent.support.data;
+
+/**
+ * Destination of generated rows. Values come in {@link Table#columns()} order;
+ * enums are already ordinals or names as the entity maps them. Rows may be
+ * buffered until {@link #close()}.
+ */
+public interface RowWriter extends AutoCloseable {
+    void write(Table table, Object... values);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,29 @@
+package com.carrental.carrent.support.data;
+
+import java.util.List;
+
+/** The tables the {@link DataGenerator} fills, with their columns in row order. */
+public enum Table {
+    USERS("users", "id", "email", "first_name", "last_name", "password", "role", "is_deleted"),
+    CARS("cars", "id", "model", "brand", "car_type", "inventory", "daily_fee", "is_deleted"),
+    RENTALS("rentals", "id", "rental_date", "return_date", "actual_return_date", "fined_through",
+            "car_id", "user_id"),
+    PAYMENTS("payments", "id", "status", "payment_type", "rental_id", "session_url", "session_id",
+            "amount_to_pay", "is_deleted");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+}
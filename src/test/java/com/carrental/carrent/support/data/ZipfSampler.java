@@ -0,0 +1,46 @@
+package com.carrental.carrent.support.data;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ids {@code first} to {@code first + size - 1} with Zipf-distributed
+ * frequency: the k-th most popular id is drawn in proportion to
+ * {@code 1 / k^exponent}. Popularity ranks are shuffled over the ids with a
+ * fixed seed, so popular rows are spread over the table as in real data
+ * rather than packed at its start. Sampling is a binary search over the
+ * cumulative distribution and safe from any number of threads.
+ */
+final class ZipfSampler {
+    private final long first;
+    private final double[] cumulative;
+    private final int[] idByRank;
+
+    ZipfSampler(long first, int size, double exponent, long seed) {
+        this.first = first;
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+        idByRank = new int[size];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i + 1);
+            idByRank[i] = idByRank[j];
+            idByRank[j] = i;
+        }
+    }
+
+    long sample(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = Math.min(-rank - 1, cumulative.length - 1);
+        }
+        return first + idByRank[rank];
+    }
+}
@@ -1,3 +1,4 @@
+DELETE FROM daily_fleet_stats;
 DELETE FROM payments;
 DELETE FROM rentals;
 DELETE FROM cars;
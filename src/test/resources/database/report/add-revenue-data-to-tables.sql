@@ -0,0 +1,20 @@
+INSERT INTO users (id, email, first_name, last_name, password, role, is_deleted)
+VALUES
+(1, 'customer@example.com', 'John', 'Doe', '$2a$10$exampleEncodedPassword', 1, false);
+
+INSERT INTO cars (id, model, brand, car_type, inventory, daily_fee, is_deleted)
+VALUES
+(1, 'Model S', 'Tesla', 0, 5, 100.00, false),
+(2, 'X5', 'BMW', 1, 3, 150.00, false);
+
+INSERT INTO rentals (id, rental_date, return_date, actual_return_date, car_id, user_id)
+VALUES
+(1, '2025-10-10', '2025-10-14', '2025-10-14', 1, 1),
+(2, '2025-10-12', '2025-10-15', '2025-10-17', 2, 1),
+(3, '2025-10-20', '2025-10-22', NULL, 1, 1);
+
+INSERT INTO payments (id, status, payment_type, rental_id, session_url, session_id, amount_to_pay, is_deleted) VALUES
+(1, 'PAID', 'PAYMENT', 1, 'https://stripe.com/session/s1', 's1', 400.00, false),
+(2, 'PAID', 'PAYMENT', 2, 'https://stripe.com/session/s2', 's2', 450.00, false),
+(3, 'PAID', 'FINE', 2, 'https://stripe.com/session/s3', 's3', 450.00, false),
+(4, 'PENDING', 'PAYMENT', 3, 'https://stripe.com/session/s4', 's4', 200.00, false);